@@ -0,0 +1,57 @@
+package br.com.gustavo.demo.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Mesma tabela e validações da entidade JPA da aplicação servlet (o esquema é criado por ela)
+@Table("person")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class Person {
+
+    // Atribuído pelo PersonIdGenerator antes do INSERT, a partir da mesma sequence person_seq
+    @Id
+    private Long id;
+
+    @NotBlank
+    @Size(min = 4, max = 80, message = "{Size.person.firstName}")
+    @Column("first_name")
+    private String firstName;
+
+    @Size(min = 2, max = 80, message = "{Size.person.lastName}")
+    @NotBlank
+    @Column("last_name")
+    private String lastName;
+
+    @Size(min = 10, max = 100)
+    @NotBlank
+    private String email;
+
+    @NotBlank
+    private String address;
+
+    @NotBlank
+    @Size(min = 4, max = 10)
+    private String gender;
+
+    // Controle de concorrência otimista: também usado como ETag do recurso
+    @Version
+    private Long version;
+
+    public Person(String firstName, String lastName, String email, String address, String gender) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.address = address;
+        this.gender = gender;
+    }
+
+}
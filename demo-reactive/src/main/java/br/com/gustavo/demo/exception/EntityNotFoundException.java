@@ -0,0 +1,9 @@
+package br.com.gustavo.demo.exception;
+
+public class EntityNotFoundException extends RuntimeException {
+
+    public EntityNotFoundException(String msg) {
+        super(msg);
+    }
+
+}
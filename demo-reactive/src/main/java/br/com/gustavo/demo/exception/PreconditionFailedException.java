@@ -0,0 +1,9 @@
+package br.com.gustavo.demo.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String msg) {
+        super(msg);
+    }
+
+}
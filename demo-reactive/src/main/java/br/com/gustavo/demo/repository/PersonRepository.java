@@ -0,0 +1,28 @@
+package br.com.gustavo.demo.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.gustavo.demo.entity.Person;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface PersonRepository extends R2dbcRepository<Person, Long> {
+
+    // Keyset: WHERE id > ? ORDER BY id LIMIT ?, sem OFFSET
+    Flux<Person> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Mono<Boolean> existsByEmailAndIdNot(String email, Long id);
+
+    @Modifying
+    @Query("DELETE FROM person WHERE id = :id")
+    Mono<Integer> deletePersonById(@Param("id") Long id);
+
+}
@@ -0,0 +1,69 @@
+package br.com.gustavo.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+// Mesma alocação em blocos do pooled optimizer do Hibernate na aplicação servlet (allocationSize = 50): cada valor lido
+// da sequence reserva os ids (valor - 49 .. valor], então as duas variantes podem gravar no mesmo banco sem colidir.
+// No MySQL a sequence é emulada pela tabela person_seq (next_val), como o Hibernate faz.
+@Component
+public class PersonIdGenerator {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private DatabaseClient client;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private long next;
+    private long hi;
+
+    public Mono<Long> nextId() {
+        synchronized (this) {
+            if (next != 0 && next <= hi) {
+                return Mono.just(next++);
+            }
+        }
+        return fetchHi().map(this::allocate);
+    }
+
+    // Dois refills simultâneos: o primeiro instala o bloco novo; o outro usa só o primeiro id do seu bloco (gera lacunas, como várias instâncias do Hibernate)
+    private synchronized long allocate(long value) {
+        long from = Math.max(1, value - ALLOCATION_SIZE + 1);
+        if (next == 0 || next > hi) {
+            next = from + 1;
+            hi = value;
+        }
+        return from;
+    }
+
+    private Mono<Long> fetchHi() {
+        String database = connectionFactory.getMetadata().getName().toLowerCase();
+        if (!database.contains("mysql") && !database.contains("mariadb")) {
+            return client.sql("SELECT NEXT VALUE FOR person_seq").map(row -> row.get(0, Long.class)).one();
+        }
+        // Transação própria, como o TableGenerator do Hibernate: o lock na linha da tabela não dura o INSERT inteiro
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return client.sql("SELECT next_val FROM person_seq FOR UPDATE").map(row -> row.get(0, Long.class)).one()
+            .flatMap(value -> client.sql("UPDATE person_seq SET next_val = :next WHERE next_val = :current")
+                .bind("next", value + ALLOCATION_SIZE)
+                .bind("current", value)
+                .fetch().rowsUpdated()
+                .thenReturn(value))
+            .as(TransactionalOperator.create(transactionManager, definition)::transactional);
+    }
+
+}
@@ -0,0 +1,128 @@
+package br.com.gustavo.demo.service;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EmailUniqueValidationException;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.repository.PersonRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Mesmas regras do PersonService da aplicação servlet, sem bloquear threads: cada etapa é encadeada no Mono/Flux
+@Service
+public class PersonService {
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Autowired
+    private PersonIdGenerator idGenerator;
+
+    @Autowired
+    private Validator validator;
+
+    @Transactional(readOnly=true)
+    public Flux<Person> findPage(Long after, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit));
+    }
+
+    @Transactional(readOnly=true)
+    public Mono<Person> findById(Long id) {
+        return repository.findById(id).switchIfEmpty(Mono.error(() -> personNotFound(id)));
+    }
+
+    @Transactional
+    public Mono<Person> save(Person person) {
+        return repository.existsByEmail(person.getEmail())
+            .flatMap(exists -> exists ? Mono.<Long>error(emailAlreadyRegistered(person.getEmail())) : idGenerator.nextId())
+            .flatMap(id -> {
+                person.setId(id);
+                person.setVersion(null);
+                return template.insert(person);
+            })
+            .onErrorMap(DataIntegrityViolationException.class, e -> emailAlreadyRegistered(person.getEmail()));
+    }
+
+    // expectedVersion vem do If-Match; null quando o cliente não enviou pré-condição
+    @Transactional
+    public Mono<Person> update(Long id, Person person, Long expectedVersion) {
+        return applyChanges(id, person, expectedVersion);
+    }
+
+    // Atualização parcial: apenas os campos não nulos de changes são aplicados
+    @Transactional
+    public Mono<Person> patch(Long id, Person changes, Long expectedVersion) {
+        return applyChanges(id, changes, expectedVersion);
+    }
+
+    private Mono<Person> applyChanges(Long id, Person changes, Long expectedVersion) {
+        String email = changes.getEmail();
+        return findById(id).flatMap(entity -> {
+            if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+                return Mono.error(new PreconditionFailedException(String.format("Person com id %d foi alterado (versão atual %d)", id, entity.getVersion())));
+            }
+            Mono<Boolean> emailTaken = email != null && !email.equals(entity.getEmail())
+                ? repository.existsByEmailAndIdNot(email, id)
+                : Mono.just(false);
+            return emailTaken.flatMap(taken -> {
+                if (taken) {
+                    return Mono.error(emailAlreadyRegistered(email));
+                }
+                merge(entity, changes);
+                Set<ConstraintViolation<Person>> violations = validator.validate(entity);
+                if (!violations.isEmpty()) {
+                    return Mono.error(new ConstraintViolationException(violations));
+                }
+                return repository.save(entity);
+            });
+        }).onErrorMap(DataIntegrityViolationException.class, e -> emailAlreadyRegistered(email));
+    }
+
+    @Transactional
+    public Mono<Void> deleteById(Long id) {
+        return repository.deletePersonById(id)
+            .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(personNotFound(id)) : Mono.<Void>empty());
+    }
+
+    private static void merge(Person entity, Person changes) {
+        if (changes.getFirstName() != null) {
+            entity.setFirstName(changes.getFirstName());
+        }
+        if (changes.getLastName() != null) {
+            entity.setLastName(changes.getLastName());
+        }
+        if (changes.getEmail() != null) {
+            entity.setEmail(changes.getEmail());
+        }
+        if (changes.getAddress() != null) {
+            entity.setAddress(changes.getAddress());
+        }
+        if (changes.getGender() != null) {
+            entity.setGender(changes.getGender());
+        }
+    }
+
+    private static EntityNotFoundException personNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Person com id %d não encontrado", id));
+    }
+
+    private static EmailUniqueValidationException emailAlreadyRegistered(String email) {
+        return new EmailUniqueValidationException(String.format("O e-mail %s já está cadastrado", email));
+    }
+
+}
@@ -0,0 +1,93 @@
+package br.com.gustavo.demo.web.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.service.PersonService;
+import br.com.gustavo.demo.web.dto.CursorPageDto;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+// Mesmo contrato de PersonController da aplicação servlet. GET com ETag responde 304 sozinho quando o If-None-Match confere
+@RestController
+@RequestMapping("/")
+public class PersonController {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private PersonService service;
+
+    @GetMapping
+    public Mono<ResponseEntity<CursorPageDto<Person>>> findAll(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return service.findPage(after, pageSize).collectList().map(people -> {
+            Long nextCursor = people.size() == pageSize ? people.get(people.size() - 1).getId() : null;
+            return ResponseEntity.ok(new CursorPageDto<>(people, pageSize, nextCursor));
+        });
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Person>> findById(@PathVariable("id") Long id) {
+        return service.findById(id)
+            .map(person -> ResponseEntity.ok().eTag(String.valueOf(person.getVersion())).body(person));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Person>> create(@Valid @RequestBody Person person) {
+        return service.save(person).map(entity -> ResponseEntity.status(HttpStatus.CREATED).body(entity));
+    }
+
+    @PutMapping("{id}")
+    public Mono<ResponseEntity<Person>> update(@Valid @RequestBody Person person, @PathVariable("id") Long id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch) {
+        return service.update(id, person, expectedVersion(ifMatch))
+            .map(entity -> ResponseEntity.ok().eTag(String.valueOf(entity.getVersion())).body(entity));
+    }
+
+    @PatchMapping("{id}")
+    public Mono<ResponseEntity<Person>> patch(@RequestBody Person changes, @PathVariable("id") Long id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch) {
+        return service.patch(id, changes, expectedVersion(ifMatch))
+            .map(entity -> ResponseEntity.ok().eTag(String.valueOf(entity.getVersion())).body(entity));
+    }
+
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable("id") Long id) {
+        return service.deleteById(id).then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.NO_CONTENT).<Void>build()));
+    }
+
+    // If-Match: "3" -> versão 3; ausente ou * -> sem pré-condição. ETags fracas nunca satisfazem If-Match (comparação forte)
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        try {
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            }
+        } catch (NumberFormatException e) {
+            // cai na exceção abaixo
+        }
+        throw new PreconditionFailedException(String.format("If-Match %s não corresponde à versão atual", ifMatch));
+    }
+
+}
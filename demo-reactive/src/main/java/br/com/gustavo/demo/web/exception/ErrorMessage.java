@@ -0,0 +1,65 @@
+package br.com.gustavo.demo.web.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.validation.ConstraintViolation;
+import lombok.Getter;
+import lombok.ToString;
+
+// Mesmo corpo de erro da aplicação servlet, montado a partir da requisição reativa
+@Getter @ToString
+public class ErrorMessage {
+
+    private String path;
+    private String method;
+    private int status;
+    private String statusText;
+    private String message;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> errors;
+
+    public ErrorMessage(){
+    }
+
+    public ErrorMessage(ServerHttpRequest request, HttpStatus status, String message) {
+        this.path = request.getPath().value();
+        this.method = request.getMethod().name();
+        this.status = status.value();
+        this.statusText = status.getReasonPhrase();
+        this.message = message;
+    }
+
+    public ErrorMessage(ServerHttpRequest request, HttpStatus status, String message, BindingResult result) {
+        this(request, status, message);
+        addError(result);
+    }
+
+    public ErrorMessage(ServerHttpRequest request, HttpStatus status, String message, Set<? extends ConstraintViolation<?>> violations) {
+        this(request, status, message);
+        addError(violations);
+    }
+
+    private void addError(Set<? extends ConstraintViolation<?>> violations) {
+        errors = new HashMap<>();
+        for (ConstraintViolation<?> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+    }
+
+    private void addError(BindingResult result) {
+        errors = new HashMap<>();
+        for (FieldError fieldError : result.getFieldErrors()) {
+            errors.put(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+    }
+
+}
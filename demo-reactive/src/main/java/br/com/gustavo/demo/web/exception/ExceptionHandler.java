@@ -0,0 +1,68 @@
+package br.com.gustavo.demo.web.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import br.com.gustavo.demo.exception.EmailUniqueValidationException;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import jakarta.validation.ConstraintViolationException;
+
+@RestControllerAdvice
+public class ExceptionHandler {
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorMessage> entityNotFoundException(RuntimeException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.NOT_FOUND, ex.getMessage()));
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(EmailUniqueValidationException.class)
+    public ResponseEntity<ErrorMessage> emailUniqueValidationException(RuntimeException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorMessage> preconditionFailedException(RuntimeException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.PRECONDITION_FAILED)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.PRECONDITION_FAILED, ex.getMessage()));
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessage> optimisticLockingFailureException(RuntimeException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.CONFLICT, "O registro foi alterado por outra requisição, tente novamente"));
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorMessage> constraintViolationException(ConstraintViolationException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, "Campo(s) inválido(s)", ex.getConstraintViolations()));
+    }
+
+    // Equivalente reativo do MethodArgumentNotValidException (@Valid @RequestBody)
+    @org.springframework.web.bind.annotation.ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorMessage> webExchangeBindException(WebExchangeBindException ex, ServerHttpRequest request) {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage(), ex.getBindingResult()));
+    }
+
+}
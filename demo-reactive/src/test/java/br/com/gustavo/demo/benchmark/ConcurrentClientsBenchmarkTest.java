@@ -0,0 +1,217 @@
+package br.com.gustavo.demo.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.gustavo.demo.ReactiveDemoApplication;
+import br.com.gustavo.demo.entity.Person;
+
+// Compara as duas variantes da API com muitos clientes simultâneos (modelo fechado: cada cliente tem a própria conexão
+// e faz GET /{id} em sequência). Mede a vazão e, pelo /actuator/metrics do servidor, quanto heap e quantas threads ele
+// precisou a mais com todos os clientes conectados. Não roda no build normal:
+//   mvn test -Pbenchmark -Dtest=ConcurrentClientsBenchmarkTest -Dload.url=http://localhost:81/
+// Para comparar, suba cada aplicação sozinha (mesmo banco, mesmo -Xmx) e rode uma vez contra cada uma:
+//   demo:          java -Xmx1g -jar demo/target/demo-0.0.1-SNAPSHOT.jar --server.port=8080
+//   demo-reactive: java -Xmx1g -jar demo-reactive/target/demo-reactive-0.0.1-SNAPSHOT.jar --server.port=8081
+// Sem load.url sobe a variante reativa neste JVM com H2 (só para conferir o teste: a memória medida inclui os clientes).
+// Parâmetros (-D): load.clients=10000, load.seconds=30, load.ramp-up-seconds=10, load.seed=100,
+//   load.results-dir=target/load-test. 10k conexões precisam de ulimit -n acima de 10k no cliente e no servidor.
+@Tag("benchmark")
+public class ConcurrentClientsBenchmarkTest {
+
+    private static final String URL = System.getProperty("load.url");
+    private static final int CLIENTS = Integer.getInteger("load.clients", 10_000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final Duration RAMP_UP = Duration.ofSeconds(Long.getLong("load.ramp-up-seconds", 10));
+    private static final int SEED = Integer.getInteger("load.seed", 100);
+    private static final Path RESULTS = Path.of(System.getProperty("load.results-dir", "target/load-test"));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<Long> ids = new ArrayList<>();
+    private URI baseUri;
+
+    @Test
+    public void concurrentClients() throws Exception {
+        ConfigurableApplicationContext app = URL == null ? start() : null;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            baseUri = URI.create(app == null ? URL : "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort() + "/");
+            HttpClient http = HttpClient.newBuilder().executor(clients).version(HttpClient.Version.HTTP_1_1).build();
+            HttpClient metrics = HttpClient.newHttpClient();
+            seed(http);
+
+            Map<String, Object> report = drive(http, metrics, clients);
+            Path saved = save(report);
+            report.forEach((key, value) -> System.out.printf("%-22s %s%n", key, value));
+            System.out.println("Resultado salvo em " + saved);
+            assertTrue(((Number) report.get("requests")).longValue() > 0, "Nenhuma requisição concluída");
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ReactiveDemoApplication.class).run(
+            "--server.port=0",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///concurrent-clients?options=DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.username=sa",
+            "--spring.r2dbc.password=",
+            "--spring.sql.init.mode=always",
+            "--management.endpoints.web.exposure.include=metrics",
+            "--logging.level.root=WARN",
+            "--logging.level.io.r2dbc.h2.H2Connection=ERROR");
+    }
+
+    private void seed(HttpClient http) throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < SEED; i++) {
+            Person person = new Person("Gustavo", "Souza", "c" + run + "-" + i + "@gmail.com", "São Paulo - Brasil", "Male");
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(person)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            ids.add(mapper.readValue(response.body(), Person.class).getId());
+        }
+    }
+
+    private Map<String, Object> drive(HttpClient http, HttpClient metrics, ExecutorService clients) throws Exception {
+        double heapBefore = metric(metrics, "jvm.memory.used?tag=area:heap");
+        double threadsBefore = metric(metrics, "jvm.threads.live");
+        String startedAt = LocalDateTime.now().toString();
+
+        long begin = System.nanoTime();
+        long measureFrom = begin + RAMP_UP.toNanos();
+        long end = measureFrom + DURATION.toNanos();
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+        // Cada cliente entra num instante diferente da rampa e fica em laço até o fim, sempre na mesma conexão keep-alive
+        List<Future<?>> running = new ArrayList<>(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            long startAt = begin + RAMP_UP.toNanos() * c / CLIENTS;
+            running.add(clients.submit(() -> {
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, startAt - System.nanoTime()));
+                while (System.nanoTime() < end) {
+                    long sent = System.nanoTime();
+                    String error;
+                    try {
+                        int status = http.send(findById(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        error = status == 200 ? null : "HTTP " + status;
+                    } catch (Exception e) {
+                        error = e.getClass().getSimpleName();
+                    }
+                    if (sent >= measureFrom) {
+                        if (error == null) {
+                            latencies.add(System.nanoTime() - sent);
+                        } else {
+                            errors.computeIfAbsent(error, key -> new AtomicLong()).incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Pico de heap e threads do servidor enquanto todos os clientes estão conectados
+        double heapPeak = heapBefore;
+        double threadsPeak = threadsBefore;
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        while (System.nanoTime() < end) {
+            heapPeak = Math.max(heapPeak, metric(metrics, "jvm.memory.used?tag=area:heap"));
+            threadsPeak = Math.max(threadsPeak, metric(metrics, "jvm.threads.live"));
+            TimeUnit.SECONDS.sleep(1);
+        }
+        // O executor também atende o HttpClient: só pode ser encerrado depois que o último cliente terminar
+        for (Future<?> client : running) {
+            client.get(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+        }
+
+        long[] samples = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", baseUri.toString());
+        report.put("startedAt", startedAt);
+        report.put("clients", CLIENTS);
+        report.put("seconds", DURATION.toSeconds());
+        report.put("requests", samples.length);
+        report.put("errors", errors.values().stream().mapToLong(AtomicLong::get).sum());
+        report.put("errorTypes", new TreeMap<>(errors));
+        report.put("throughputPerSecond", Math.round(samples.length / (double) DURATION.toSeconds()));
+        report.put("p50Ms", percentile(samples, 0.50));
+        report.put("p99Ms", percentile(samples, 0.99));
+        report.put("heapBeforeMb", megabytes(heapBefore));
+        report.put("heapPeakMb", megabytes(heapPeak));
+        report.put("heapPerClientKb", Math.round((heapPeak - heapBefore) / 1024 / CLIENTS * 10) / 10.0);
+        report.put("threadsBefore", Math.round(threadsBefore));
+        report.put("threadsPeak", Math.round(threadsPeak));
+        return report;
+    }
+
+    private HttpRequest findById() {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return HttpRequest.newBuilder(baseUri.resolve(String.valueOf(id))).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private double metric(HttpClient metrics, String name) throws Exception {
+        HttpResponse<String> response = metrics.send(HttpRequest.newBuilder(baseUri.resolve("actuator/metrics/" + name)).build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Métrica " + name + " indisponível (" + response.statusCode() + "): exponha /actuator/metrics no servidor");
+        }
+        JsonNode measurements = mapper.readTree(response.body()).path("measurements");
+        return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asDouble();
+    }
+
+    private Path save(Map<String, Object> report) throws Exception {
+        Files.createDirectories(RESULTS);
+        Path file = RESULTS.resolve("concurrent-clients-" + System.currentTimeMillis() + ".json");
+        mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        long nanos = sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static double megabytes(double bytes) {
+        return Math.round(bytes / 1024 / 1024 * 10) / 10.0;
+    }
+
+
+}
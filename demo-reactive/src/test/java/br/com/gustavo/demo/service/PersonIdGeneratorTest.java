@@ -0,0 +1,60 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Flux;
+
+@DataR2dbcTest
+@Import(PersonIdGenerator.class)
+public class PersonIdGeneratorTest {
+
+    @Autowired
+    private PersonIdGenerator generator;
+
+    @Autowired
+    private DatabaseClient client;
+
+    @Test
+    public void testGivenSeveralBlocks_whenNextId_thenIdsAreUniqueAndIncreasing() {
+        // When
+        List<Long> ids = Flux.range(0, PersonIdGenerator.ALLOCATION_SIZE * 3)
+            .concatMap(i -> generator.nextId())
+            .collectList().block();
+
+        // Then
+        Set<Long> distinct = new HashSet<>(ids);
+        assertEquals(ids.size(), distinct.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+
+    @Test
+    public void testGivenBlockInUse_whenAnotherWriterReadsSequence_thenIdsNeverReachItsBlock() {
+        // Given
+        Long first = generator.nextId().block();
+
+        // When
+        Long other = client.sql("SELECT NEXT VALUE FOR person_seq").map(row -> row.get(0, Long.class)).one().block();
+        List<Long> ids = Flux.range(0, PersonIdGenerator.ALLOCATION_SIZE * 2)
+            .concatMap(i -> generator.nextId())
+            .collectList().block();
+
+        // Then: o bloco do outro escritor (Hibernate) é (other - 49 .. other]
+        long otherFrom = other - PersonIdGenerator.ALLOCATION_SIZE + 1;
+        assertTrue(first < otherFrom || first > other);
+        assertTrue(ids.stream().allMatch(id -> id < otherFrom || id > other));
+    }
+
+}
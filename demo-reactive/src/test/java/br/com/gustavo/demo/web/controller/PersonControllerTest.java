@@ -0,0 +1,218 @@
+package br.com.gustavo.demo.web.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonRepository;
+
+// Pilha inteira (WebFlux -> PersonService -> R2DBC) sobre H2 em memória, conferindo o mesmo contrato e corpo de erro da aplicação servlet
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class PersonControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PersonRepository repository;
+
+    private Person person;
+
+    @BeforeEach
+    public void setup() {
+        repository.deleteAll().block();
+        this.person = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+    }
+
+    @Test
+    public void testGivenCreatePerson_whenSavePerson_thenReturnSavedPersonWithStatus201() {
+        // When / Then
+        webTestClient.post().uri("/").contentType(MediaType.APPLICATION_JSON).bodyValue(person)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody()
+            .jsonPath("$.id").isNumber()
+            .jsonPath("$.firstName").isEqualTo(person.getFirstName())
+            .jsonPath("$.version").isEqualTo(0);
+    }
+
+    @Test
+    public void testGivenExistingEmail_whenSavePerson_thenReturnErrorMessageWithStatus409() {
+        // Given
+        create(person);
+
+        // When / Then
+        webTestClient.post().uri("/").contentType(MediaType.APPLICATION_JSON).bodyValue(person)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(409)
+            .jsonPath("$.method").isEqualTo("POST")
+            .jsonPath("$.path").isEqualTo("/")
+            .jsonPath("$.message").isEqualTo("O e-mail gsouza@gmail.com já está cadastrado");
+    }
+
+    @Test
+    public void testGivenInvalidPerson_whenSavePerson_thenReturnFieldErrorsWithStatus400() {
+        // Given
+        person.setFirstName("Gu");
+
+        // When / Then
+        webTestClient.post().uri("/").contentType(MediaType.APPLICATION_JSON).bodyValue(person)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(400)
+            .jsonPath("$.errors.firstName").exists();
+    }
+
+    @Test
+    public void testGivenSavedPerson_whenFindById_thenReturnPersonWithETag() {
+        // Given
+        Person saved = create(person);
+
+        // When / Then
+        webTestClient.get().uri("/{id}", saved.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", "\"0\"")
+            .expectBody()
+            .jsonPath("$.email").isEqualTo(person.getEmail());
+    }
+
+    @Test
+    public void testGivenMatchingIfNoneMatch_whenFindById_thenReturnStatus304() {
+        // Given
+        Person saved = create(person);
+
+        // When / Then
+        webTestClient.get().uri("/{id}", saved.getId()).header("If-None-Match", "\"0\"")
+            .exchange()
+            .expectStatus().isNotModified();
+    }
+
+    @Test
+    public void testGivenNotExistsPerson_whenFindById_thenReturnErrorMessageWithStatus404() {
+        // When / Then
+        webTestClient.get().uri("/{id}", 999999)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(404)
+            .jsonPath("$.statusText").isEqualTo("Not Found")
+            .jsonPath("$.message").isEqualTo("Person com id 999999 não encontrado");
+    }
+
+    @Test
+    public void testGivenSeveralPeople_whenFindAllWithLimit_thenReturnPageWithNextCursor() {
+        // Given
+        Person first = create(person);
+        create(new Person("Maria", "Souza", "msouza@gmail.com", "São Paulo - Brasil", "Female"));
+        create(new Person("Joana", "Lima", "jlima@gmail.com", "São Paulo - Brasil", "Female"));
+
+        // When / Then
+        webTestClient.get().uri("/?limit=2")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(2)
+            .jsonPath("$.content[0].id").isEqualTo(first.getId())
+            .jsonPath("$.nextCursor").isNumber();
+    }
+
+    @Test
+    public void testGivenCurrentVersion_whenUpdate_thenReturnUpdatedPersonWithNewETag() {
+        // Given
+        Person saved = create(person);
+        person.setFirstName("Gustavo Henrique");
+
+        // When / Then
+        webTestClient.put().uri("/{id}", saved.getId()).header("If-Match", "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON).bodyValue(person)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", "\"1\"")
+            .expectBody()
+            .jsonPath("$.firstName").isEqualTo("Gustavo Henrique");
+    }
+
+    @Test
+    public void testGivenStaleVersion_whenUpdate_thenReturnErrorMessageWithStatus412() {
+        // Given
+        Person saved = create(person);
+
+        // When / Then
+        webTestClient.put().uri("/{id}", saved.getId()).header("If-Match", "\"7\"")
+            .contentType(MediaType.APPLICATION_JSON).bodyValue(person)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(412);
+    }
+
+    @Test
+    public void testGivenInvalidChange_whenPatch_thenReturnFieldErrorsWithStatus400() {
+        // Given
+        Person saved = create(person);
+        Person changes = new Person();
+        changes.setGender("M");
+
+        // When / Then
+        webTestClient.patch().uri("/{id}", saved.getId())
+            .contentType(MediaType.APPLICATION_JSON).bodyValue(changes)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Campo(s) inválido(s)")
+            .jsonPath("$.errors.gender").exists();
+    }
+
+    @Test
+    public void testGivenSavedPerson_whenPatchAddress_thenKeepOtherFields() {
+        // Given
+        Person saved = create(person);
+        Person changes = new Person();
+        changes.setAddress("Rio de Janeiro - Brasil");
+
+        // When / Then
+        webTestClient.patch().uri("/{id}", saved.getId())
+            .contentType(MediaType.APPLICATION_JSON).bodyValue(changes)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.address").isEqualTo("Rio de Janeiro - Brasil")
+            .jsonPath("$.firstName").isEqualTo(person.getFirstName());
+    }
+
+    @Test
+    public void testGivenSavedPerson_whenDelete_thenReturnStatus204AndThen404() {
+        // Given
+        Person saved = create(person);
+
+        // When / Then
+        webTestClient.delete().uri("/{id}", saved.getId()).exchange().expectStatus().isNoContent();
+        webTestClient.delete().uri("/{id}", saved.getId()).exchange().expectStatus().isNotFound();
+    }
+
+    private Person create(Person body) {
+        Person saved = webTestClient.post().uri("/").contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(Person.class)
+            .returnResult().getResponseBody();
+        assertNotNull(saved);
+        assertEquals(0L, saved.getVersion());
+        return saved;
+    }
+
+}
@@ -0,0 +1,94 @@
+package br.com.gustavo.demo.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limite de requisições simultâneas que se ajusta pela latência (AIMD): enquanto as respostas saem perto da menor latência
+// observada e o limite está sendo usado, ele sobe 1 por resposta; quando a latência passa de tolerância x mínima (ou a
+// requisição falha) ele cai para backoff x limite, no máximo uma vez por rodada de requisições (as que começaram antes
+// da última redução não contam de novo). A latência mínima é recalculada a cada janela de amostras para acompanhar o banco
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long minLatencyThresholdNanos;
+    private final double backoffRatio;
+    private final int minLatencyWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long windowMinLatencyNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+            long minLatencyThresholdNanos, double backoffRatio, int minLatencyWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.minLatencyThresholdNanos = minLatencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.minLatencyWindow = minLatencyWindow;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // Teto fixo: só conta as vagas, que voltam por cancel, sem ajuste pela latência
+    public static AdaptiveConcurrencyLimit fixed(int limit) {
+        return new AdaptiveConcurrencyLimit(limit, limit, limit, 1.0, 0, 1.0, 1);
+    }
+
+    // share < 1 reserva o restante do limite para prioridades maiores
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Devolve a vaga sem amostra de latência (a requisição foi recusada por outro limite, ou o limite é fixo)
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    public void release(long startNanos, long endNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        long latency = endNanos - startNanos;
+        synchronized (this) {
+            windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latency);
+            minLatencyNanos = Math.min(minLatencyNanos, latency);
+            if (++windowSamples >= minLatencyWindow) {
+                minLatencyNanos = windowMinLatencyNanos;
+                windowMinLatencyNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            long threshold = Math.max((long) (minLatencyNanos * latencyTolerance), minLatencyThresholdNanos);
+            if (failed || latency > threshold) {
+                if (!decreased || startNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = endNanos;
+                    decreased = true;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+}
@@ -0,0 +1,90 @@
+package br.com.gustavo.demo.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Uma requisição entra se couber no limite global (na fração da sua prioridade) e no limite do seu endpoint, assim um
+// endpoint lento não ocupa a aplicação inteira. Só os limites por endpoint se ajustam pela latência; o global é um teto
+// fixo de capacidade, para exportações e importações longas não derrubarem o limite das leituras curtas.
+// Métricas: admission.limit e admission.in.flight (tag endpoint, "global" para o limite global) e admission.rejected
+// (tags endpoint e priority)
+public class AdmissionControl {
+
+    public static final String GLOBAL = "global";
+
+    public record Permit(AdaptiveConcurrencyLimit endpoint, long startNanos) {
+    }
+
+    private final Supplier<AdaptiveConcurrencyLimit> limitFactory;
+    private final MeterRegistry registry;
+    private final AdaptiveConcurrencyLimit global;
+    private final Map<String, AdaptiveConcurrencyLimit> endpoints = new ConcurrentHashMap<>();
+
+    public AdmissionControl(Supplier<AdaptiveConcurrencyLimit> limitFactory, int globalLimit, MeterRegistry registry) {
+        this.limitFactory = limitFactory;
+        this.registry = registry;
+        this.global = register(GLOBAL, AdaptiveConcurrencyLimit.fixed(globalLimit));
+    }
+
+    // null = recusada
+    public Permit tryAcquire(String endpoint, Priority priority) {
+        AdaptiveConcurrencyLimit endpointLimit = endpoints.computeIfAbsent(endpoint, name -> register(name, limitFactory.get()));
+        if (!global.tryAcquire(priority.share())) {
+            rejected(endpoint, priority);
+            return null;
+        }
+        if (!endpointLimit.tryAcquire(1.0)) {
+            global.cancel();
+            rejected(endpoint, priority);
+            return null;
+        }
+        return new Permit(endpointLimit, System.nanoTime());
+    }
+
+    public void release(Permit permit, boolean failed) {
+        permit.endpoint().release(permit.startNanos(), System.nanoTime(), failed);
+        global.cancel();
+    }
+
+    // Requisição recusada pela própria aplicação (503 de fila cheia, por exemplo): não é amostra de latência do endpoint
+    public void discard(Permit permit) {
+        permit.endpoint().cancel();
+        global.cancel();
+    }
+
+    AdaptiveConcurrencyLimit limit(String endpoint) {
+        return GLOBAL.equals(endpoint) ? global : endpoints.get(endpoint);
+    }
+
+    private AdaptiveConcurrencyLimit register(String endpoint, AdaptiveConcurrencyLimit limit) {
+        if (registry != null) {
+            Gauge.builder("admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Limite atual de requisições simultâneas")
+                .tag("endpoint", endpoint)
+                .register(registry);
+            Gauge.builder("admission.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requisições em andamento")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        }
+        return limit;
+    }
+
+    private void rejected(String endpoint, Priority priority) {
+        if (registry != null) {
+            Counter.builder("admission.rejected")
+                .description("Requisições recusadas por sobrecarga")
+                .tag("endpoint", endpoint)
+                .tag("priority", priority.name())
+                .register(registry)
+                .increment();
+        }
+    }
+
+}
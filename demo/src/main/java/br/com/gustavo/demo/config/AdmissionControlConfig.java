@@ -0,0 +1,43 @@
+package br.com.gustavo.demo.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.gustavo.demo.web.interceptor.AdmissionControlInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Controle de admissão na frente dos controllers: com o banco lento as requisições são recusadas com 503/429 e Retry-After
+// em vez de se acumularem no Tomcat e no pool até todas estourarem o tempo juntas. Desligar com app.admission.enabled=false
+@Configuration
+@ConditionalOnProperty(name = "app.admission.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AdmissionControlProperties properties;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Bean
+    public AdmissionControl admissionControl() {
+        return new AdmissionControl(properties::newLimit, properties.maxLimit(), meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Antes dos demais interceptors: a requisição recusada não chega a contar comandos SQL nem abrir escopos.
+        // GET /events fica de fora: a conexão SSE dura minutos e não usa o banco (tem o próprio limite de assinantes)
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionControl(), Math.max(1, properties.retryAfter().toSeconds())))
+            .excludePathPatterns("/events")
+            .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+}
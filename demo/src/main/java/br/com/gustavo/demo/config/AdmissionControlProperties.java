@@ -0,0 +1,27 @@
+package br.com.gustavo.demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.admission.*: limites adaptativos de requisições simultâneas por endpoint; max-limit também é o teto global fixo,
+// onde vale a prioridade
+@ConfigurationProperties("app.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("2.0") double latencyTolerance,
+        @DefaultValue("20ms") Duration minLatencyThreshold,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1000") int minLatencyWindow,
+        @DefaultValue("1s") Duration retryAfter) {
+
+    public AdaptiveConcurrencyLimit newLimit() {
+        return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance,
+            minLatencyThreshold.toNanos(), backoffRatio, minLatencyWindow);
+    }
+
+}
@@ -0,0 +1,97 @@
+package br.com.gustavo.demo.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Smile (application/x-jackson-smile) e CBOR (application/cbor) além de JSON, escolhidos por Accept/Content-Type.
+// Os conversores entram no fim da lista: sem Accept, ou com */*, a resposta continua em JSON
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    private static final String SMILE_TAG = "-smile";
+    private static final String CBOR_TAG = "-cbor";
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Mesma configuração do ObjectMapper de JSON (módulos, datas, inclusão de nulos), só trocando o formato
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+    }
+
+    // A mesma URL responde em formatos diferentes: caches intermediários precisam separar as respostas por Accept
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        });
+    }
+
+    // ETag por representação: JSON mantém "3", Smile e CBOR viram "3-smile" e "3-cbor", para um cache não devolver 304
+    // com o corpo de outro formato. Segue a negociação do Spring: Accept por qualidade e especificidade, JSON primeiro
+    public static String representationTag(String tag, String accept) {
+        if (accept == null || accept.isBlank()) {
+            return tag;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return tag;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return tag;
+            }
+            if (mediaType.isCompatibleWith(APPLICATION_SMILE)) {
+                return tag + SMILE_TAG;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return tag + CBOR_TAG;
+            }
+        }
+        return tag;
+    }
+
+    // Inverso de representationTag: "3-cbor" -> "3"
+    public static String baseTag(String tag) {
+        for (String suffix : List.of(SMILE_TAG, CBOR_TAG)) {
+            if (tag.endsWith(suffix)) {
+                return tag.substring(0, tag.length() - suffix.length());
+            }
+        }
+        return tag;
+    }
+
+}
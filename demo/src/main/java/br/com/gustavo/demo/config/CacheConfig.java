@@ -0,0 +1,57 @@
+package br.com.gustavo.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// O cache fica por fora da transação: um acerto não abre transação nem conexão, e o @CacheEvict só roda depois do commit.
+// Com @Cacheable(sync = true) as faltas simultâneas da mesma chave dividem uma única carga (CoalescingCaffeineCache)
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String PEOPLE_CACHE = "people";
+    public static final String SINGLE_FLIGHT_METRIC = "cache.single.flight";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PEOPLE_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    // cache.single.flight (result=load|coalesced): faltas de cache que executaram o método / que esperaram a carga em
+    // andamento da mesma chave. As cargas passam por fora do loader do Caffeine, então não aparecem em cache.load
+    @Bean
+    public MeterBinder coalescingCacheMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                if (cacheManager.getCache(name) instanceof CoalescingCaffeineCache cache) {
+                    FunctionCounter.builder(SINGLE_FLIGHT_METRIC, cache, CoalescingCaffeineCache::getLoadCount)
+                        .description("Faltas de cache por resultado da carga")
+                        .tags("cache", name, "result", "load")
+                        .register(registry);
+                    FunctionCounter.builder(SINGLE_FLIGHT_METRIC, cache, CoalescingCaffeineCache::getCoalescedCount)
+                        .description("Faltas de cache por resultado da carga")
+                        .tags("cache", name, "result", "coalesced")
+                        .register(registry);
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,110 @@
+package br.com.gustavo.demo.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+// Single-flight para @Cacheable(sync = true): numa falta de cache só a primeira chamada de cada chave executa o método
+// (e abre a transação); as concorrentes da mesma chave esperam o mesmo resultado, ou a mesma exceção.
+// As cargas em andamento ficam num ConcurrentHashMap fora do Caffeine, então a consulta ao banco não roda segurando
+// o lock de nenhuma chave (o Cache.get(key, loader) do Caffeine roda a carga dentro do compute e pode bloquear chaves
+// vizinhas). Um evict durante a carga descarta o resultado dela, para o valor antigo não voltar ao cache
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            coalesced.increment();
+            return (T) join(running);
+        }
+        try {
+            // Outra carga pode ter terminado entre a consulta ao cache e o putIfAbsent
+            ValueWrapper loaded = get(key);
+            if (loaded != null) {
+                inFlight.remove(key, load);
+                load.complete(loaded.get());
+                return (T) loaded.get();
+            }
+            loads.increment();
+            T value = valueLoader.call();
+            put(key, value);
+            if (!inFlight.remove(key, load)) {
+                super.evict(key);
+            }
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            inFlight.remove(key, load);
+            ValueRetrievalException failure = new ValueRetrievalException(key, valueLoader, e);
+            load.completeExceptionally(failure);
+            throw failure;
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        inFlight.remove(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        inFlight.remove(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        inFlight.clear();
+        return super.invalidate();
+    }
+
+    // Chamadas que executaram o método / que aproveitaram uma carga já em andamento
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static Object join(CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            throw (ValueRetrievalException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido esperando a carga em andamento", e);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package br.com.gustavo.demo.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.InstanceSupplier;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Inicialização preguiçosa só para beans que não atendem a API (app.lazy-init.packages, ex.: org.springdoc e o OpenApiConfig):
+// saem da subida e são criados na primeira requisição que precisar deles. Vazio = tudo é criado na subida, como antes
+@Configuration
+public class LazyInitConfig {
+
+    static final String PACKAGES_PROPERTY = "app.lazy-init.packages";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyInitPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment).bind(PACKAGES_PROPERTY, Bindable.listOf(String.class)).orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.getRole() != BeanDefinition.ROLE_APPLICATION || !definition.isSingleton()) {
+                    continue;
+                }
+                if (matches(packages, definition.getBeanClassName()) || matches(packages, declaringClass(beanFactory, definition))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // Beans de métodos @Bean contam pela classe de configuração que os declara; com o Spring AOT a definição não tem
+    // factoryBeanName e o método vem do InstanceSupplier gerado
+    private static String declaringClass(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition instanceof AbstractBeanDefinition beanDefinition && beanDefinition.getInstanceSupplier() instanceof InstanceSupplier<?> supplier
+                && supplier.getFactoryMethod() != null) {
+            return supplier.getFactoryMethod().getDeclaringClass().getName();
+        }
+        String factoryBean = definition.getFactoryBeanName();
+        return factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)
+            ? beanFactory.getBeanDefinition(factoryBean).getBeanClassName()
+            : null;
+    }
+
+    private static boolean matches(List<String> packages, String className) {
+        return className != null && packages.stream().anyMatch(className::startsWith);
+    }
+
+}
@@ -0,0 +1,63 @@
+package br.com.gustavo.demo.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import br.com.gustavo.demo.service.PersonService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Timer person.service (tags method e exception) para cada método público do PersonService.
+// Fica logo depois do cache e antes da transação: mede a transação inteira, commit incluído; acertos de cache não passam aqui
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "person.service";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor personServiceTimerAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return PersonService.class.isAssignableFrom(targetClass) && Modifier.isPublic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class;
+            }
+        };
+        MethodInterceptor interceptor = invocation -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return invocation.proceed();
+            }
+            Timer.Sample sample = Timer.start(registry);
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder(SERVICE_TIMER)
+                    .description("Duração das chamadas ao PersonService, incluindo a transação")
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+}
@@ -0,0 +1,55 @@
+package br.com.gustavo.demo.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonSummary;
+import br.com.gustavo.demo.service.PersonEvent;
+import br.com.gustavo.demo.web.exception.ErrorMessage;
+
+// Hints para a imagem nativa (-Pnative) do que o processamento AOT do Spring e o repositório de metadados do GraalVM
+// (Hibernate, Caffeine, Hikari, MySQL) não cobrem: o que é criado por reflexão ou proxy pelo código da aplicação
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Getters/setters gerados pelo Lombok (Jackson) e campos acessados pelo Hibernate
+        hints.reflection().registerType(Person.class, MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Expressões "select new ..." do JPQL e projeções por DTO do Spring Data instanciam os records por reflexão
+        hints.reflection().registerType(PersonSummary.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(PersonName.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        // Devolvido pelo @RestControllerAdvice, que não entra na análise das assinaturas dos controllers
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ErrorMessage.class);
+        // Serializado pelo ObjectMapper no PersonEventBroadcaster (GET /events)
+        bindingRegistrar.registerReflectionHints(hints.reflection(), PersonEvent.class);
+
+        // QueryCountingDataSource envolve conexões e comandos em proxies JDK
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+
+        // ReplicaRoutingConfig aplica spring.datasource.hikari.* nos pools das réplicas com o Binder (setters por reflexão)
+        hints.reflection().registerType(HikariDataSource.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(HikariConfig.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Mensagens das validações de Person (Hibernate Validator carrega como ResourceBundle)
+        hints.resources().registerResourceBundle("ValidationMessages");
+    }
+
+}
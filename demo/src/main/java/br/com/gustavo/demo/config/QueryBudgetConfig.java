@@ -0,0 +1,39 @@
+package br.com.gustavo.demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.gustavo.demo.web.interceptor.QueryBudgetInterceptor;
+
+// Conta os comandos SQL de cada requisição e avisa no log quando um endpoint passa do seu @QueryBudget
+@Configuration
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    @Value("${app.query-budget.default:10}")
+    private int defaultBudget;
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(defaultBudget));
+    }
+
+}
@@ -0,0 +1,55 @@
+package br.com.gustavo.demo.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Envolve as conexões e statements para contar cada execução (execute*, executeBatch conta uma ida ao banco) no QueryCounter
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) proxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) proxy(Connection.class, super.getConnection(username, password));
+    }
+
+    // Connection: devolve os Statement/PreparedStatement/CallableStatement criados também envolvidos; Statement: conta os execute*
+    private static Object proxy(Class<?> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (type != Connection.class && method.getName().startsWith("execute")) {
+                QueryCounter.increment();
+            }
+            Object result = invoke(target, method, args);
+            if (type == Connection.class && result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return proxy(method.getReturnType(), result);
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package br.com.gustavo.demo.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Transações readOnly vão para uma réplica saudável, em rodízio; escritas, leituras que precisam ver as próprias escritas
+// e leituras sem réplica disponível vão para o primário. Uma réplica fora do ar ou com atraso acima de maxLag sai do rodízio
+// até a próxima verificação. Precisa ficar atrás de um LazyConnectionDataSourceProxy: a conexão só é pedida no primeiro
+// comando, quando o readOnly da transação já foi definido.
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthCheck;
+
+    private static final class Replica {
+
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+    }
+
+    // lagQuery: consulta que devolve o atraso em segundos (ex.: SHOW REPLICA STATUS no MySQL); vazia verifica só a conexão
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isPrimaryRequired()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.markWritten();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Credenciais explícitas só existem no primário: tratada como escrita
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.markWritten();
+        }
+        return primary.getConnection(username, password);
+    }
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markUnhealthy(replica, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    public void startHealthCheck(Duration interval) {
+        healthCheck = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replica-health-check").daemon().factory());
+        healthCheck.scheduleWithFixedDelay(this::checkReplicas, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (lagQuery == null || lagQuery.isBlank()) {
+                    if (!connection.isValid(2)) {
+                        markUnhealthy(replica, "conexão inválida");
+                        continue;
+                    }
+                } else {
+                    Long lag = lagSeconds(connection);
+                    if (lag == null || lag > maxLag.toSeconds()) {
+                        markUnhealthy(replica, lag == null ? "replicação parada" : "atraso de " + lag + " s");
+                        continue;
+                    }
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Réplica {} voltou ao rodízio de leituras", replica.name);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markUnhealthy(replica, e.getMessage());
+            }
+        }
+    }
+
+    private Long lagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(lagQuery)) {
+            if (!result.next()) {
+                return null;
+            }
+            ResultSetMetaData metaData = result.getMetaData();
+            int column = 1;
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (LAG_COLUMNS.contains(metaData.getColumnLabel(i))) {
+                    column = i;
+                }
+            }
+            long lag = result.getLong(column);
+            return result.wasNull() ? null : lag;
+        }
+    }
+
+    private void markUnhealthy(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Réplica {} fora do rodízio de leituras ({}); leituras vão para o primário", replica.name, reason);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package br.com.gustavo.demo.config;
+
+import java.util.function.Supplier;
+
+// Escopo de uma requisição para ler as próprias escritas: depois de uma escrita na requisição, ou quando o cliente pede
+// (cabeçalho X-Read-Your-Writes), as transações readOnly também vão para o primário em vez de uma réplica atrasada
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<boolean[]> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin(boolean primaryRequired) {
+        PRIMARY_REQUIRED.set(new boolean[] { primaryRequired });
+    }
+
+    public static void end() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    // Leituras que alimentam um cache compartilhado vão sempre ao primário: uma réplica atrasada deixaria em cache, para
+    // todos os clientes, a versão anterior à escrita que acabou de invalidar a entrada
+    public static <T> T fromPrimary(Supplier<T> read) {
+        boolean[] previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(new boolean[] { true });
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        boolean[] primaryRequired = PRIMARY_REQUIRED.get();
+        return primaryRequired != null && primaryRequired[0];
+    }
+
+    // Fora de um escopo (threads de carga, importação) não marca nada
+    static void markWritten() {
+        boolean[] primaryRequired = PRIMARY_REQUIRED.get();
+        if (primaryRequired != null) {
+            primaryRequired[0] = true;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.com.gustavo.demo.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import br.com.gustavo.demo.web.interceptor.ReadYourWritesInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Só ativo com réplicas configuradas (app.datasource.replicas[0].url); sem elas o DataSource continua o do Spring Boot.
+// Os pools (primary, replica-N) ficam dentro do DataSource de roteamento, que é o único bean DataSource da aplicação
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ReplicaRoutingProperties properties;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties properties,
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configurePool(primary, "primary", environment, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Replica> configured = properties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource pool = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(replica.url()).username(replica.username()).password(replica.password()).build();
+            configurePool(pool, "replica-" + i, environment, meterRegistry);
+            pool.setReadOnly(true);
+            replicas.put(pool.getPoolName(), pool);
+        }
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicas, properties.maxReplicaLag(), properties.replicaLagQuery());
+        routingDataSource.startHealthCheck(properties.replicaCheckInterval());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Desligado: sem o escopo da requisição as transações readOnly vão sempre às réplicas, mesmo depois de uma escrita
+        if (properties.readYourWrites()) {
+            registry.addInterceptor(new ReadYourWritesInterceptor());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    private static void configurePool(HikariDataSource pool, String name, Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+
+}
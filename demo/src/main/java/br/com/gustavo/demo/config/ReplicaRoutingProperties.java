@@ -0,0 +1,21 @@
+package br.com.gustavo.demo.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.datasource.replicas[n].url/username/password: réplicas de leitura; as demais configurações de pool vêm de spring.datasource.hikari
+@ConfigurationProperties("app.datasource")
+public record ReplicaRoutingProperties(
+        List<Replica> replicas,
+        @DefaultValue("5s") Duration replicaCheckInterval,
+        @DefaultValue("5s") Duration maxReplicaLag,
+        String replicaLagQuery,
+        @DefaultValue("true") boolean readYourWrites) {
+
+    public record Replica(String url, String username, String password) {
+    }
+
+}
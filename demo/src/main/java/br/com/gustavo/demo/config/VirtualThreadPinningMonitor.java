@@ -0,0 +1,84 @@
+package br.com.gustavo.demo.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+// Escuta o evento JFR jdk.VirtualThreadPinned e publica a métrica jvm.threads.virtual.pinned (contagem e duração).
+// Cada ponto de pinning (topo da pilha) é logado com a pilha na primeira vez e depois só contabilizado.
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.virtual-threads.pinning-threshold:20ms}")
+    private Duration threshold;
+
+    private final Map<String, Boolean> reportedSites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+    private Timer pinned;
+
+    @Override
+    public void start() {
+        pinned = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Tempo em que virtual threads ficaram presas ao carrier")
+            .register(meterRegistry);
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de pinning de virtual threads ativo (limite de {} ms)", threshold.toMillis());
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String stackTrace = event.getStackTrace() == null ? "<sem pilha>" : event.getStackTrace().getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::format)
+            .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        String site = stackTrace.lines().findFirst().orElse("");
+        if (reportedSites.putIfAbsent(site, Boolean.TRUE) == null) {
+            log.warn("Virtual thread presa ao carrier por {} ms:\n{}", event.getDuration().toMillis(), stackTrace);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+}
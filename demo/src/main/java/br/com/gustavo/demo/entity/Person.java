@@ -2,12 +2,18 @@ package br.com.gustavo.demo.entity;
 
 import java.io.Serializable;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -15,13 +21,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// DynamicUpdate: o UPDATE inclui só as colunas alteradas (PATCH de um campo não reescreve a linha inteira)
+// idx_person_name atende a busca por prefixo de nome (first_name like 'x%' ou first_name = ? and last_name like 'y%')
 @Entity
-@Table(name = "person")
+@DynamicUpdate
+@Table(name = "person", indexes = @Index(name = "idx_person_name", columnList = "first_name, last_name"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class Person implements Serializable {
     
+    // Sequence com pooled optimizer (no MySQL emulada por tabela) para o Hibernate conseguir agrupar os INSERTs em lotes JDBC; IDENTITY desativa o batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_seq")
+    @SequenceGenerator(name = "person_seq", sequenceName = "person_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -48,6 +59,12 @@ public class Person implements Serializable {
     @Column(nullable = false, length = 10)
     private String gender;
 
+    // Controle de concorrência otimista: também usado como ETag do recurso
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public Person(String firstName, String lastName, String email, String address, String gender) {
         this.firstName = firstName;
         this.lastName = lastName;
@@ -0,0 +1,9 @@
+package br.com.gustavo.demo.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+
+    public BatchSizeExceededException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.gustavo.demo.exception;
+
+public class InvalidCsvException extends RuntimeException {
+
+    public InvalidCsvException(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,10 @@
+package br.com.gustavo.demo.exception;
+
+// Recusa de operações em lote por sobrecarga: o cliente deve reduzir o ritmo (429) em vez de tratar como falha do servidor (503)
+public class TooManyRequestsException extends ServiceOverloadedException {
+
+    public TooManyRequestsException(String msg, long retryAfterSeconds) {
+        super(msg, retryAfterSeconds);
+    }
+
+}
@@ -0,0 +1,5 @@
+package br.com.gustavo.demo.repository;
+
+// Projeção usada pela busca por nome (typeahead)
+public record PersonName(Long id, String firstName, String lastName) {
+}
@@ -1,19 +1,95 @@
 package br.com.gustavo.demo.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.gustavo.demo.entity.Person;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
     Optional<Person> findByEmail(String email);
 
+    @Query("select p.version from Person p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByEmailAndIdNot(String email, Long id);
+
+    // DELETE direto, sem carregar a entidade antes; o retorno é o número de linhas removidas
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Person p where p.id = :id")
+    int deletePersonById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Person p where p.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // SELECT ... FOR UPDATE: os ids devolvidos ficam travados até o DELETE na mesma transação
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.id from Person p where p.id in :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.email from Person p where p.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Paginação keyset: usa o índice da chave primária (where id > ? order by id) em vez de offset
+    List<Person> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Mesma paginação, mas o SELECT traz só quatro colunas e devolve DTOs fora do contexto de persistência (sem snapshot para dirty checking)
+    @Query("select new br.com.gustavo.demo.repository.PersonSummary(p.id, p.firstName, p.lastName, p.email) from Person p where p.id > :id order by p.id")
+    List<PersonSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    // Cursor no banco lido em lotes de fetch size; deve ser consumido dentro de uma transação e fechado ao final
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from Person p order by p.id")
+    Stream<Person> streamAll();
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.email from Person p")
+    Stream<String> streamAllEmails();
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new br.com.gustavo.demo.repository.PersonName(p.id, p.firstName, p.lastName) from Person p")
+    Stream<PersonName> streamAllNames();
+
+    // Busca por prefixo de nome pelo índice idx_person_name (first_name, last_name); usada enquanto o NameIndex carrega
+    List<PersonName> findByFirstNameStartingWithOrderByFirstNameAscLastNameAsc(String prefix, Limit limit);
+
+    List<PersonName> findByFirstNameAndLastNameStartingWithOrderByLastNameAsc(String firstName, String lastNamePrefix, Limit limit);
+
     @Query("select p from Person p where p.firstName =:firstName and p.lastName =:lastName")
     Optional<Person> findByFirstNameAndLastName(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
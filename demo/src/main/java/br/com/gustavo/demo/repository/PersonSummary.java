@@ -0,0 +1,5 @@
+package br.com.gustavo.demo.repository;
+
+// Projeção usada nas listagens: só as colunas exibidas, sem endereço e sem versão
+public record PersonSummary(Long id, String firstName, String lastName, String email) {
+}
@@ -0,0 +1,33 @@
+package br.com.gustavo.demo.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import br.com.gustavo.demo.entity.Person;
+import jakarta.validation.ConstraintViolation;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, Status status, Long id, String message, Map<String, String> errors) {
+
+    public enum Status {
+        CREATED, CONFLICT, INVALID
+    }
+
+    public static BatchItemResult created(int index, Person person) {
+        return new BatchItemResult(index, Status.CREATED, person.getId(), null, null);
+    }
+
+    public static BatchItemResult conflict(int index, Person person) {
+        return new BatchItemResult(index, Status.CONFLICT, null, String.format("O e-mail %s já está cadastrado", person.getEmail()), null);
+    }
+
+    public static BatchItemResult invalid(int index, Set<ConstraintViolation<Person>> violations) {
+        Map<String, String> errors = violations.stream()
+            .collect(Collectors.toMap(v -> v.getPropertyPath().toString(), ConstraintViolation::getMessage, (first, second) -> first));
+        return new BatchItemResult(index, Status.INVALID, null, "Campo(s) inválido(s)", errors);
+    }
+
+}
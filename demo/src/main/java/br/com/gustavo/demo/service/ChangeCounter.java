@@ -0,0 +1,31 @@
+package br.com.gustavo.demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Contador de escritas em pessoas usado como ETag da coleção (GET /) sem precisar ler nem hashear a lista.
+// O contador é local à instância: a tag também leva um id da instância e uma janela de tempo (max-age),
+// assim escritas feitas por outras instâncias ficam visíveis no máximo depois de uma janela.
+@Component
+public class ChangeCounter {
+
+    private final AtomicLong changes = new AtomicLong();
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    @Value("${app.etag.collection-max-age:30s}")
+    private Duration maxAge = Duration.ofSeconds(30);
+
+    // Dentro de uma transação o incremento só acontece depois do commit, para a tag nova nunca apontar para dados antigos
+    public void markChanged() {
+        Transactions.runAfterCommit(changes::incrementAndGet);
+    }
+
+    public String etag() {
+        return instanceId + "-" + changes.get() + "-" + System.currentTimeMillis() / maxAge.toMillis();
+    }
+
+}
@@ -0,0 +1,106 @@
+package br.com.gustavo.demo.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Leitor CSV (RFC 4180) que lê um registro por vez: aceita campos entre aspas com vírgulas, aspas duplicadas e quebras de linha.
+// Lê caractere a caractere, então o Reader é sempre bufferizado; o BOM do UTF-8 (CSV salvo pelo Excel) é ignorado
+class CsvReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine;
+    private int pushback = -2;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    // Linha do arquivo em que começou o último registro lido
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+            return c;
+        }
+        c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+}
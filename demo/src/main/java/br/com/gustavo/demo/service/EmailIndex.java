@@ -0,0 +1,82 @@
+package br.com.gustavo.demo.service;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.gustavo.demo.repository.PersonRepository;
+
+// Índice em memória dos e-mails cadastrados. Um "não" do filtro dispensa a consulta de duplicidade; um "talvez" é confirmado no banco.
+// A unique constraint da coluna continua sendo a garantia final (outras instâncias, remoções e a janela de carga inicial).
+@Component
+public class EmailIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailIndex.class);
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final BloomFilter filter;
+    private volatile boolean ready;
+
+    public EmailIndex(
+            @Value("${app.email-index.expected-insertions:10000000}") long expectedInsertions,
+            @Value("${app.email-index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // Enquanto o índice não foi carregado toda consulta responde "talvez"
+    public boolean mightContain(String email) {
+        return !ready || filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        filter.put(normalize(email));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofPlatform().name("email-index-warmup").daemon().start(this::load);
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            Long count = transaction.execute(status -> {
+                try (Stream<String> emails = repository.streamAllEmails()) {
+                    return emails.mapToLong(email -> {
+                        add(email);
+                        return 1;
+                    }).sum();
+                }
+            });
+            ready = true;
+            log.info("Índice de e-mails carregado com {} registros em {} ms", count, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o índice de e-mails; a verificação de duplicidade seguirá indo ao banco", e);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,15 @@
+package br.com.gustavo.demo.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Resultado de uma importação: apenas as primeiras rejeições são detalhadas, as demais entram só na contagem
+public record ImportSummary(long totalRows, long imported, long rejected, List<RejectedRow> rejections) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RejectedRow(long line, String reason, Map<String, String> errors) {
+    }
+
+}
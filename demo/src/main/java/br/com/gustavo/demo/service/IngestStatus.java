@@ -0,0 +1,29 @@
+package br.com.gustavo.demo.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Situação de um cadastro aceito em modo assíncrono (POST / com Prefer: respond-async), consultada em GET /ingest/{trackingId}
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IngestStatus(String trackingId, Status status, Long id, String message) {
+
+    public enum Status {
+        PENDING, CREATED, CONFLICT, FAILED
+    }
+
+    public static IngestStatus pending(String trackingId) {
+        return new IngestStatus(trackingId, Status.PENDING, null, null);
+    }
+
+    public static IngestStatus of(String trackingId, BatchItemResult result) {
+        return switch (result.status()) {
+            case CREATED -> new IngestStatus(trackingId, Status.CREATED, result.id(), null);
+            case CONFLICT -> new IngestStatus(trackingId, Status.CONFLICT, null, result.message());
+            case INVALID -> new IngestStatus(trackingId, Status.FAILED, null, result.message());
+        };
+    }
+
+    public static IngestStatus failed(String trackingId, String message) {
+        return new IngestStatus(trackingId, Status.FAILED, null, message);
+    }
+
+}
@@ -0,0 +1,136 @@
+package br.com.gustavo.demo.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonRepository;
+
+// Índice em memória dos nomes para o typeahead (GET /search). A chave é "nome sobrenome" normalizado (minúsculas, sem acentos)
+// seguido do id, num mapa ordenado: a busca por prefixo percorre só as primeiras entradas a partir do prefixo, O(log n + limite).
+// Escritas entram depois do commit; enquanto a carga inicial não termina a busca vai ao banco (índice idx_person_name).
+@Component
+public class NameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(NameIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    // Menor que qualquer caractere de nome: "ana" vem antes de "ana b" e pessoas com o mesmo nome não colidem
+    private static final char ID_SEPARATOR = '\u0000';
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentSkipListMap<String, PersonName> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keys = new ConcurrentHashMap<>();
+    // Ids escritos durante a carga inicial: a carga não sobrescreve o que já chegou por escrita mais recente
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public List<PersonName> search(String query, int limit) {
+        String prefix = normalize(query);
+        List<PersonName> matches = new ArrayList<>(limit);
+        if (prefix.isEmpty()) {
+            return matches;
+        }
+        for (Map.Entry<String, PersonName> entry : entries.tailMap(prefix).entrySet()) {
+            if (matches.size() == limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    public void put(Person person) {
+        PersonName name = new PersonName(person.getId(), person.getFirstName(), person.getLastName());
+        Transactions.runAfterCommit(() -> {
+            if (!ready) {
+                touched.add(name.id());
+            }
+            keys.compute(name.id(), (id, previous) -> replace(previous, name));
+        });
+    }
+
+    public void remove(Long id) {
+        Transactions.runAfterCommit(() -> {
+            if (!ready) {
+                touched.add(id);
+            }
+            keys.computeIfPresent(id, (key, previous) -> {
+                entries.remove(previous);
+                return null;
+            });
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofPlatform().name("name-index-warmup").daemon().start(this::load);
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<PersonName> names = repository.streamAllNames()) {
+                    names.forEach(name -> keys.compute(name.id(), (id, previous) -> touched.contains(id) ? previous : replace(previous, name)));
+                }
+            });
+            ready = true;
+            touched.clear();
+            log.info("Índice de nomes carregado com {} registros em {} ms", keys.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o índice de nomes; a busca por nome seguirá indo ao banco", e);
+        }
+    }
+
+    private String replace(String previousKey, PersonName name) {
+        if (previousKey != null) {
+            entries.remove(previousKey);
+        }
+        String key = normalize(name.firstName() + " " + name.lastName()) + ID_SEPARATOR + name.id();
+        entries.put(key, name);
+        return key;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.gustavo.demo.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Cada chamada é uma transação própria: um lote com conflito é desfeito sem afetar os lotes já gravados
+@Component
+public class PersonBatchWriter {
+
+    @Autowired
+    private PersonRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Person> insert(List<Person> people) {
+        List<Person> saved = repository.saveAll(people);
+        repository.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    // Caminho comum: um único DELETE. Se só parte do lote existia, não dá para saber quais ids saíram; a transação é desfeita e devolve null
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> delete(List<Long> ids) {
+        int deleted = repository.deleteAllByIdIn(ids);
+        if (deleted == ids.size()) {
+            return ids;
+        }
+        if (deleted == 0) {
+            return List.of();
+        }
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        return null;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> deleteExisting(List<Long> ids) {
+        List<Long> existing = repository.lockExistingIds(ids);
+        if (!existing.isEmpty()) {
+            repository.deleteAllByIdIn(existing);
+        }
+        return existing;
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.gustavo.demo.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import br.com.gustavo.demo.entity.Person;
+
+// Mudança em uma pessoa, publicada depois do commit (GET /events). sequence é crescente por instância;
+// person vem nas criações e alterações, nas exclusões só o id
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PersonEvent(long sequence, Type type, Long id, Person person) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED;
+
+        // Nome do evento SSE (campo event:)
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+
+}
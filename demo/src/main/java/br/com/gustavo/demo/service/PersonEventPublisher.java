@@ -0,0 +1,38 @@
+package br.com.gustavo.demo.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.service.PersonEvent.Type;
+
+// Publica as mudanças em pessoas como PersonEvent (ApplicationEvent) só depois do commit: um rollback não gera evento
+// e quem recebe o evento já consegue ler o dado no banco. Fora de transação publica na hora (o commit já aconteceu)
+@Component
+public class PersonEventPublisher {
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public void created(Person person) {
+        publish(Type.CREATED, person.getId(), person);
+    }
+
+    public void updated(Person person) {
+        publish(Type.UPDATED, person.getId(), person);
+    }
+
+    public void deleted(Long id) {
+        publish(Type.DELETED, id, null);
+    }
+
+    private void publish(Type type, Long id, Person person) {
+        Transactions.runAfterCommit(() -> publisher.publishEvent(new PersonEvent(sequence.incrementAndGet(), type, id, person)));
+    }
+
+}
@@ -0,0 +1,297 @@
+package br.com.gustavo.demo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.InvalidCsvException;
+import br.com.gustavo.demo.exception.TooManyRequestsException;
+import br.com.gustavo.demo.service.ImportSummary.RejectedRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Importação em três estágios ligados por filas limitadas (leitura -> validação em paralelo -> gravação em lotes).
+// Quando um estágio fica para trás a fila enche e o anterior espera, então a memória não depende do tamanho do arquivo.
+// Os estágios rodam num pool único, dimensionado para maxConcurrent importações; acima disso responde 429 com Retry-After
+@Service
+public class PersonImportService {
+
+    static final int IMPORT_CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_REJECTIONS = 1000;
+    static final List<String> COLUMNS = List.of("firstName", "lastName", "email", "address", "gender");
+
+    private static final Row END = new Row(-1, null);
+
+    @Autowired
+    private PersonService service;
+
+    @Autowired
+    private Validator validator;
+
+    private final int workers = Runtime.getRuntime().availableProcessors();
+    private final int maxConcurrent;
+    private final long retryAfterSeconds;
+    private final Semaphore running;
+    private ExecutorService executor;
+
+    public PersonImportService(
+            @Value("${app.import.max-concurrent:2}") int maxConcurrent,
+            @Value("${app.admission.retry-after:1s}") Duration retryAfter) {
+        this.maxConcurrent = maxConcurrent;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    // Cada importação ocupa workers validadores e um gravador; o semáforo garante que o pool nunca fica sem thread
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(maxConcurrent * (workers + 1), Thread.ofPlatform().name("person-import-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ImportSummary importCsv(InputStream input) throws IOException {
+        if (!running.tryAcquire()) {
+            throw new TooManyRequestsException(String.format("Limite de importações simultâneas atingido, tente novamente em %d s", retryAfterSeconds), retryAfterSeconds);
+        }
+        try {
+            return importCsv(new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        } finally {
+            running.release();
+        }
+    }
+
+    private ImportSummary importCsv(CsvReader reader) throws IOException {
+        int[] columns = readHeader(reader);
+        Pipeline pipeline = new Pipeline(IMPORT_CHUNK_SIZE * 2);
+        Report report = new Report();
+
+        List<Future<?>> stages = new ArrayList<>();
+        try {
+            List<Future<?>> validators = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                validators.add(pipeline.submit(executor, () -> validate(pipeline, report)));
+            }
+            stages.addAll(validators);
+            Future<?> writer = pipeline.submit(executor, () -> write(pipeline, report));
+            stages.add(writer);
+
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                report.totalRows.incrementAndGet();
+                if (fields.size() != COLUMNS.size()) {
+                    report.reject(reader.getRecordLine(), String.format("Esperado %d colunas, encontrado %d", COLUMNS.size(), fields.size()), null);
+                    continue;
+                }
+                Person person = new Person(fields.get(columns[0]), fields.get(columns[1]), fields.get(columns[2]), fields.get(columns[3]), fields.get(columns[4]));
+                pipeline.put(pipeline.parsed, new Row(reader.getRecordLine(), person));
+            }
+            for (int i = 0; i < workers; i++) {
+                pipeline.put(pipeline.parsed, END);
+            }
+            for (Future<?> validatorStage : validators) {
+                await(validatorStage);
+            }
+            pipeline.put(pipeline.validated, END);
+            await(writer);
+        } finally {
+            // Numa falha os estágios que ainda rodam são interrompidos; o pool continua para as próximas importações
+            stages.forEach(stage -> stage.cancel(true));
+        }
+        return report.toSummary();
+    }
+
+    private int[] readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new InvalidCsvException("Arquivo CSV vazio");
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim().toLowerCase(), i);
+        }
+        int[] columns = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = positions.get(COLUMNS.get(i).toLowerCase());
+            if (position == null || header.size() != COLUMNS.size()) {
+                throw new InvalidCsvException(String.format("O cabeçalho do CSV deve conter as colunas %s", String.join(",", COLUMNS)));
+            }
+            columns[i] = position;
+        }
+        return columns;
+    }
+
+    private void validate(Pipeline pipeline, Report report) throws InterruptedException {
+        Row row;
+        while ((row = pipeline.take(pipeline.parsed)) != END) {
+            Set<ConstraintViolation<Person>> violations = validator.validate(row.person());
+            if (violations.isEmpty()) {
+                pipeline.put(pipeline.validated, row);
+            } else {
+                report.reject(row.line(), "Campo(s) inválido(s)", BatchItemResult.invalid(0, violations).errors());
+            }
+        }
+    }
+
+    private void write(Pipeline pipeline, Report report) throws InterruptedException {
+        List<Row> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        Row row;
+        while ((row = pipeline.take(pipeline.validated)) != END) {
+            chunk.add(row);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                flush(chunk, report);
+            }
+        }
+        flush(chunk, report);
+    }
+
+    private void flush(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<BatchItemResult> results = service.saveValidated(chunk.stream().map(Row::person).toList());
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResult result = results.get(i);
+            if (result.status() == BatchItemResult.Status.CREATED) {
+                report.imported.incrementAndGet();
+            } else {
+                report.reject(chunk.get(i).line(), result.message(), result.errors());
+            }
+        }
+        chunk.clear();
+    }
+
+    private static void await(Future<?> stage) {
+        try {
+            stage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Importação interrompida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Row(long line, Person person) {
+    }
+
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    // Filas entre os estágios; se um estágio falha os demais param em vez de ficarem presos esperando espaço na fila
+    private static class Pipeline {
+
+        final BlockingQueue<Row> parsed;
+        final BlockingQueue<Row> validated;
+        final AtomicBoolean aborted = new AtomicBoolean();
+        volatile Exception failure;
+
+        Pipeline(int capacity) {
+            this.parsed = new ArrayBlockingQueue<>(capacity);
+            this.validated = new ArrayBlockingQueue<>(capacity);
+        }
+
+        Future<?> submit(ExecutorService executor, Stage stage) {
+            return executor.submit(() -> {
+                try {
+                    stage.run();
+                } catch (Exception e) {
+                    if (aborted.compareAndSet(false, true)) {
+                        failure = e;
+                    }
+                    throw e;
+                }
+                return null;
+            });
+        }
+
+        void put(BlockingQueue<Row> queue, Row row) {
+            try {
+                while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                    checkAborted();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Importação interrompida");
+            }
+        }
+
+        Row take(BlockingQueue<Row> queue) throws InterruptedException {
+            Row row;
+            while ((row = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                checkAborted();
+            }
+            return row;
+        }
+
+        private void checkAborted() {
+            if (aborted.get()) {
+                if (failure instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new CancellationException("Importação abortada por falha em outro estágio");
+            }
+        }
+
+    }
+
+    private static class Report {
+
+        final AtomicLong totalRows = new AtomicLong();
+        final AtomicLong imported = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final List<RejectedRow> rejections = new ArrayList<>();
+
+        void reject(long line, String reason, Map<String, String> errors) {
+            rejected.incrementAndGet();
+            synchronized (rejections) {
+                if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new RejectedRow(line, reason, errors));
+                }
+            }
+        }
+
+        ImportSummary toSummary() {
+            synchronized (rejections) {
+                List<RejectedRow> sorted = rejections.stream()
+                    .sorted((a, b) -> Long.compare(a.line(), b.line()))
+                    .toList();
+                return new ImportSummary(totalRows.get(), imported.get(), rejected.get(), sorted);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package br.com.gustavo.demo.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Cadastro com escrita posterior (write-behind): POST / com Prefer: respond-async só enfileira a pessoa já validada e
+// responde 202 com um trackingId. Uma thread junta a fila em lotes (até batchSize itens ou maxDelay de espera) e grava
+// pelo saveValidated, em transações de BATCH_CHUNK_SIZE linhas, com os mesmos índices e ETag do cadastro síncrono.
+// Fila cheia responde 503; no desligamento a fila para de aceitar e é gravada até o fim antes do pool fechar
+@Service
+public class PersonIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonIngestionService.class);
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Autowired
+    private PersonService service;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Duration shutdownTimeout;
+    private final long retryAfterSeconds;
+    private final Cache<String, IngestStatus> statuses;
+
+    // Leitura em cada submit, escrita para fechar a fila: nenhum cadastro entra depois que o desligamento começa
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread flusher;
+
+    private record Pending(String trackingId, Person person) {
+    }
+
+    public PersonIngestionService(
+            @Value("${app.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.ingest.batch-size:500}") int batchSize,
+            @Value("${app.ingest.max-delay:100ms}") Duration maxDelay,
+            @Value("${app.ingest.status-ttl:1h}") Duration statusTtl,
+            @Value("${app.ingest.status-max-size:100000}") long statusMaxSize,
+            @Value("${app.ingest.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${app.admission.retry-after:1s}") Duration retryAfter) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        // Cada situação expira statusTtl depois da última mudança; acima de statusMaxSize as menos usadas saem antes
+        // (uma rajada de cadastros não segura uma hora de situações na memória)
+        this.statuses = Caffeine.newBuilder().maximumSize(statusMaxSize).expireAfterWrite(statusTtl).build();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        accepting = true;
+        flusher = Thread.ofPlatform().name("person-ingest-flusher").daemon().start(this::run);
+        MeterRegistry registry = meterRegistry == null ? null : meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("person.ingest.queue", queue, BlockingQueue::size)
+                .description("Cadastros assíncronos aguardando gravação")
+                .register(registry);
+        }
+    }
+
+    public IngestStatus submit(Person person) {
+        String trackingId = UUID.randomUUID().toString();
+        IngestStatus pending = IngestStatus.pending(trackingId);
+        statuses.put(trackingId, pending);
+        boolean queued;
+        acceptLock.readLock().lock();
+        try {
+            queued = accepting && queue.offer(new Pending(trackingId, person));
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!queued) {
+            statuses.invalidate(trackingId);
+            throw new ServiceOverloadedException(String.format("Fila de cadastros cheia, tente novamente em %d s", retryAfterSeconds), retryAfterSeconds);
+        }
+        return pending;
+    }
+
+    public IngestStatus status(String trackingId) {
+        IngestStatus status = statuses.getIfPresent(trackingId);
+        if (status == null) {
+            throw new EntityNotFoundException(String.format("Cadastro %s não encontrado", trackingId));
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        // Com a fila fechada, a thread de gravação só termina depois de esvaziá-la
+        running = false;
+        flusher.join(shutdownTimeout.toMillis());
+        if (flusher.isAlive()) {
+            log.warn("Gravação dos cadastros pendentes não terminou em {}; {} na fila", shutdownTimeout, queue.size());
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                // No desligamento não espera o maxDelay: grava o que já juntou
+                while (true) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || wait <= 0 || !running) {
+                        break;
+                    }
+                    Pending next = queue.poll(Math.min(wait, POLL_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha ao gravar lote de {} cadastros", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<BatchItemResult> results;
+        try {
+            results = service.saveValidated(batch.stream().map(Pending::person).toList());
+        } catch (RuntimeException e) {
+            for (Pending pending : batch) {
+                statuses.put(pending.trackingId(), IngestStatus.failed(pending.trackingId(), "Falha ao gravar, envie o cadastro novamente"));
+            }
+            throw e;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            String trackingId = batch.get(i).trackingId();
+            statuses.put(trackingId, IngestStatus.of(trackingId, results.get(i)));
+        }
+    }
+
+}
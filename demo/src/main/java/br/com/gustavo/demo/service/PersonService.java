@@ -1,63 +1,331 @@
 package br.com.gustavo.demo.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.gustavo.demo.config.CacheConfig;
+import br.com.gustavo.demo.config.ReadYourWrites;
 import br.com.gustavo.demo.entity.Person;
 import br.com.gustavo.demo.exception.EmailUniqueValidationException;
 import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.repository.PersonName;
 import br.com.gustavo.demo.repository.PersonRepository;
+import br.com.gustavo.demo.repository.PersonSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 
 @Service
 public class PersonService {
 
+    // Mesmo valor de hibernate.jdbc.batch_size: cada lote vira um único round-trip de INSERT
+    static final int BATCH_CHUNK_SIZE = 50;
+    static final int DELETE_CHUNK_SIZE = 500;
+
     @Autowired
     private PersonRepository repository;
+
+    @Autowired
+    private PersonBatchWriter batchWriter;
+
+    @Autowired
+    private EmailIndex emailIndex;
+
+    @Autowired
+    private ChangeCounter changeCounter;
+
+    @Autowired
+    private NameIndex nameIndex;
+
+    @Autowired
+    private PersonEventPublisher events;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional(readOnly=true)
+    public List<Person> findPage(Long after, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(limit));
+    }
     
     @Transactional(readOnly=true)
-    public List<Person> findAll() {
-        return repository.findAll();
+    public List<PersonSummary> findSummaryPage(Long after, int limit) {
+        return repository.findSummariesByIdGreaterThan(after == null ? 0L : after, Limit.of(limit));
     }
     
+    // Percorre a tabela inteira sem montar uma lista: cada entidade é desanexada depois de consumida para o contexto de persistência não crescer
+    @Transactional(readOnly=true)
+    public void exportAll(Consumer<Person> action) {
+        try (Stream<Person> people = repository.streamAll()) {
+            people.forEach(person -> {
+                action.accept(person);
+                entityManager.detach(person);
+            });
+        }
+    }
+    
+    // Só roda quando falta a entrada no cache: a leitura vai ao primário para o cache nunca guardar uma versão atrasada de réplica
+    @Cacheable(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id", sync = true)
     @Transactional(readOnly=true)
     public Person findById(Long id) {
-        return repository.findById(id).orElseThrow(() -> {
-            throw new EntityNotFoundException(String.format("Person com id %d não encontrado", id));
-        });
+        return ReadYourWrites.fromPrimary(() -> repository.findById(id)).orElseThrow(() -> personNotFound(id));
+    }
+
+    // Versão atual para comparar com If-None-Match: usa a pessoa em cache quando houver, senão consulta só a coluna version
+    public Long findVersion(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.PEOPLE_CACHE);
+        Person cached = cache == null ? null : cache.get(id, Person.class);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return repository.findVersionById(id).orElseThrow(() -> personNotFound(id));
+    }
+
+    // Typeahead: prefixo de "nome sobrenome"; pelo índice em memória quando carregado, senão pelo índice do banco.
+    // Sem @Transactional: com o índice pronto não pega conexão; as consultas de fallback abrem a própria transação readOnly
+    public List<PersonName> search(String query, int limit) {
+        if (nameIndex.isReady()) {
+            return nameIndex.search(query, limit);
+        }
+        String[] terms = query == null ? new String[0] : query.trim().split("\\s+", 2);
+        if (terms.length == 0 || terms[0].isEmpty()) {
+            return List.of();
+        }
+        if (terms.length == 1) {
+            return repository.findByFirstNameStartingWithOrderByFirstNameAscLastNameAsc(terms[0], Limit.of(limit));
+        }
+        return repository.findByFirstNameAndLastNameStartingWithOrderByLastNameAsc(terms[0], terms[1], Limit.of(limit));
+    }
+
+    public String collectionTag() {
+        return changeCounter.etag();
     }
 
     @Transactional
     public Person save(Person person) {
+        if (emailIndex.mightContain(person.getEmail()) && repository.existsByEmail(person.getEmail())) {
+            throw emailAlreadyRegistered(person.getEmail());
+        }
         try {
-            return repository.save(person);
+            Person entity = repository.save(person);
+            repository.flush();
+            emailIndex.add(entity.getEmail());
+            nameIndex.put(entity);
+            changeCounter.markChanged();
+            events.created(entity);
+            return entity;
         } catch (DataIntegrityViolationException e) {
-            throw new EmailUniqueValidationException(String.format("O e-mail %s já está cadastrado", person.getEmail()));
+            throw emailAlreadyRegistered(person.getEmail());
+        }
+    }
+
+    public List<BatchItemResult> saveAll(List<Person> people) {
+        BatchItemResult[] results = new BatchItemResult[people.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < people.size(); i++) {
+            Set<ConstraintViolation<Person>> violations = validator.validate(people.get(i));
+            if (violations.isEmpty()) {
+                valid.add(i);
+            } else {
+                results[i] = BatchItemResult.invalid(i, violations);
+            }
         }
+        saveValidated(people, valid, results);
+        return Arrays.asList(results);
     }
 
+    // Para quem já validou as pessoas (ex.: importação CSV); os índices dos resultados são os da lista recebida
+    public List<BatchItemResult> saveValidated(List<Person> people) {
+        BatchItemResult[] results = new BatchItemResult[people.size()];
+        saveValidated(people, IntStream.range(0, people.size()).boxed().toList(), results);
+        return Arrays.asList(results);
+    }
+
+    private void saveValidated(List<Person> people, List<Integer> indexes, BatchItemResult[] results) {
+        Set<String> emails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (Integer i : indexes) {
+            Person person = people.get(i);
+            if (!emails.add(person.getEmail())) {
+                results[i] = BatchItemResult.conflict(i, person);
+            } else {
+                person.setId(null);
+                accepted.add(i);
+            }
+        }
+        for (int from = 0; from < accepted.size(); from += BATCH_CHUNK_SIZE) {
+            saveChunk(people, accepted.subList(from, Math.min(from + BATCH_CHUNK_SIZE, accepted.size())), results);
+        }
+        if (!accepted.isEmpty()) {
+            changeCounter.markChanged();
+        }
+    }
+
+    private void saveChunk(List<Person> people, List<Integer> chunk, BatchItemResult[] results) {
+        List<String> candidates = chunk.stream().map(i -> people.get(i).getEmail()).filter(emailIndex::mightContain).toList();
+        Set<String> existingEmails = candidates.isEmpty() ? Set.of() : new HashSet<>(repository.findExistingEmails(candidates));
+        List<Integer> pending = new ArrayList<>();
+        for (Integer i : chunk) {
+            if (existingEmails.contains(people.get(i).getEmail())) {
+                results[i] = BatchItemResult.conflict(i, people.get(i));
+            } else {
+                pending.add(i);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<Person> saved = batchWriter.insert(pending.stream().map(people::get).toList());
+            for (int j = 0; j < pending.size(); j++) {
+                results[pending.get(j)] = BatchItemResult.created(pending.get(j), saved.get(j));
+                emailIndex.add(saved.get(j).getEmail());
+                nameIndex.put(saved.get(j));
+                events.created(saved.get(j));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // E-mail gravado por outra requisição depois da consulta: refaz o lote item a item para isolar o conflito
+            for (Integer i : pending) {
+                Person person = people.get(i);
+                person.setId(null);
+                try {
+                    Person saved = batchWriter.insert(List.of(person)).get(0);
+                    results[i] = BatchItemResult.created(i, saved);
+                    emailIndex.add(saved.getEmail());
+                    nameIndex.put(saved);
+                    events.created(saved);
+                } catch (DataIntegrityViolationException ex) {
+                    results[i] = BatchItemResult.conflict(i, person);
+                }
+            }
+        }
+    }
+
+    // expectedVersion vem do If-Match; null quando o cliente não enviou pré-condição
+    @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id")
     @Transactional
-    public Person update(Long id, Person person) {
+    public Person update(Long id, Person person, Long expectedVersion) {
+        return applyChanges(id, person, expectedVersion);
+    }
+
+    // Atualização parcial: apenas os campos não nulos de changes são aplicados
+    @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id")
+    @Transactional
+    public Person patch(Long id, Person changes, Long expectedVersion) {
+        return applyChanges(id, changes, expectedVersion);
+    }
+
+    private Person applyChanges(Long id, Person changes, Long expectedVersion) {
         Person entity = findById(id);
-        entity.setFirstName(person.getFirstName());
-        entity.setLastName(person.getLastName());
-        entity.setEmail(person.getEmail());
-        entity.setAddress(person.getAddress());
-        entity.setGender(person.getGender());
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PreconditionFailedException(String.format("Person com id %d foi alterado (versão atual %d)", id, entity.getVersion()));
+        }
+        String email = changes.getEmail();
+        if (email != null && !email.equals(entity.getEmail())
+                && emailIndex.mightContain(email)
+                && repository.existsByEmailAndIdNot(email, id)) {
+            throw emailAlreadyRegistered(email);
+        }
+        if (changes.getFirstName() != null) {
+            entity.setFirstName(changes.getFirstName());
+        }
+        if (changes.getLastName() != null) {
+            entity.setLastName(changes.getLastName());
+        }
+        if (email != null) {
+            entity.setEmail(email);
+        }
+        if (changes.getAddress() != null) {
+            entity.setAddress(changes.getAddress());
+        }
+        if (changes.getGender() != null) {
+            entity.setGender(changes.getGender());
+        }
+        Set<ConstraintViolation<Person>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
         try {
-            return repository.save(entity);
+            Person updated = repository.save(entity);
+            repository.flush();
+            emailIndex.add(updated.getEmail());
+            nameIndex.put(updated);
+            changeCounter.markChanged();
+            events.updated(updated);
+            return updated;
         } catch (DataIntegrityViolationException e) {
-            throw new EmailUniqueValidationException(String.format("O e-mail %s já está cadastrado", person.getEmail()));
+            throw emailAlreadyRegistered(email);
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PEOPLE_CACHE, key = "#id")
     @Transactional
     public void deleteById(Long id) {
-        Person person = findById(id);
-        repository.delete(person);
+        if (repository.deletePersonById(id) == 0) {
+            throw personNotFound(id);
+        }
+        nameIndex.remove(id);
+        changeCounter.markChanged();
+        events.deleted(id);
+    }
+
+    // Um DELETE ... IN por lote de ids, cada lote na própria transação: um expurgo grande não segura locks até o final.
+    // Lote parcial (algum id já não existia) é refeito com SELECT ... FOR UPDATE e DELETE, para publicar eventos só dos ids removidos aqui
+    public int deleteAllById(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Cache cache = cacheManager.getCache(CacheConfig.PEOPLE_CACHE);
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            List<Long> removed = batchWriter.delete(chunk);
+            if (removed == null) {
+                removed = batchWriter.deleteExisting(chunk);
+            }
+            deleted += removed.size();
+            removed.forEach(nameIndex::remove);
+            removed.forEach(events::deleted);
+            if (cache != null) {
+                chunk.forEach(cache::evict);
+            }
+        }
+        if (deleted > 0) {
+            changeCounter.markChanged();
+        }
+        return deleted;
+    }
+
+    private static EntityNotFoundException personNotFound(Long id) {
+        return new EntityNotFoundException(String.format("Person com id %d não encontrado", id));
+    }
+
+    private static EmailUniqueValidationException emailAlreadyRegistered(String email) {
+        return new EmailUniqueValidationException(String.format("O e-mail %s já está cadastrado", email));
     }
 
 }
@@ -0,0 +1,25 @@
+package br.com.gustavo.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class Transactions {
+
+    private Transactions() {
+    }
+
+    // Dentro de uma transação roda só depois do commit (um rollback descarta a ação); fora dela roda na hora
+    static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+}
@@ -1,58 +1,260 @@
 package br.com.gustavo.demo.web.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.config.BinaryFormatsConfig;
 import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.BatchSizeExceededException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonSummary;
+import br.com.gustavo.demo.service.BatchItemResult;
+import br.com.gustavo.demo.service.ImportSummary;
+import br.com.gustavo.demo.service.IngestStatus;
+import br.com.gustavo.demo.service.PersonImportService;
+import br.com.gustavo.demo.service.PersonIngestionService;
 import br.com.gustavo.demo.service.PersonService;
+import br.com.gustavo.demo.web.dto.BulkDeleteDto;
+import br.com.gustavo.demo.web.dto.CursorPageDto;
+import br.com.gustavo.demo.web.interceptor.Admission;
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+import br.com.gustavo.demo.web.interceptor.QueryBudget;
+import br.com.gustavo.demo.web.sse.PersonEventBroadcaster;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/")
 public class PersonController {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int EXPORT_FLUSH_INTERVAL = 1000;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int DEFAULT_SEARCH_LIMIT = 10;
+    static final int MAX_SEARCH_LIMIT = 50;
+    static final String RESPOND_ASYNC = "respond-async";
     
     @Autowired
     private PersonService service;
 
+    @Autowired
+    private PersonImportService importService;
+
+    @Autowired
+    private PersonIngestionService ingestionService;
+
+    @Autowired
+    private PersonEventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private ObjectMapper mapper;
+
     @GetMapping
-    public ResponseEntity<List<Person>> findAll() {
-        List<Person> people  = service.findAll();
-        return ResponseEntity.ok(people);
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDto<Person>> findAll(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        if (request.checkNotModified(eTag(service.collectionTag(), request))) {
+            return null;
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Person> people = service.findPage(after, pageSize);
+        Long nextCursor = people.size() == pageSize ? people.get(people.size() - 1).getId() : null;
+        return ResponseEntity.ok(new CursorPageDto<>(people, pageSize, nextCursor));
+    }
+
+    // Listagem resumida (id, nome, sobrenome e e-mail) com a mesma paginação por cursor e ETag de GET /
+    @GetMapping("summary")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDto<PersonSummary>> findSummaries(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            WebRequest request) {
+        if (request.checkNotModified(eTag(service.collectionTag(), request))) {
+            return null;
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<PersonSummary> people = service.findSummaryPage(after, pageSize);
+        Long nextCursor = people.size() == pageSize ? people.get(people.size() - 1).id() : null;
+        return ResponseEntity.ok(new CursorPageDto<>(people, pageSize, nextCursor));
+    }
+
+    // Typeahead por prefixo de "nome sobrenome", sem diferenciar maiúsculas e acentos
+    @GetMapping("search")
+    @QueryBudget(1)
+    public ResponseEntity<List<PersonName>> search(@RequestParam("q") String query,
+            @RequestParam(name = "limit", defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return ResponseEntity.ok(service.search(query, size));
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Admission(Priority.BULK)
+    @QueryBudget(QueryBudget.UNLIMITED)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            service.exportAll(person -> {
+                try {
+                    out.write(mapper.writeValueAsBytes(person));
+                    out.write('\n');
+                    if (++written[0] == 1 || written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
+    // Com If-None-Match compara só a versão (pessoa em cache ou SELECT da coluna version) e carrega a entidade apenas se
+    // mudou: no pior caso, versão e entidade fora do cache, são duas consultas
     @GetMapping("{id}")
-    public ResponseEntity<Person> findById(@PathVariable("id") Long id) {
+    @QueryBudget(2)
+    public ResponseEntity<Person> findById(@PathVariable("id") Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(eTag(String.valueOf(service.findVersion(id)), request))) {
+            return null;
+        }
         Person person = service.findById(id);
-        return ResponseEntity.ok(person);
+        return ResponseEntity.ok().eTag(eTag(String.valueOf(person.getVersion()), request)).body(person);
     }
 
+    // Prefer: respond-async -> 202 com o trackingId; a gravação é feita em lote pelo PersonIngestionService
     @PostMapping
-    public ResponseEntity<Person> create(@Valid @RequestBody Person person) {
+    @QueryBudget(3)
+    public ResponseEntity<?> create(@Valid @RequestBody Person person,
+            @RequestHeader(name = "Prefer", required = false) String prefer) {
+        if (prefer != null && prefer.toLowerCase().contains(RESPOND_ASYNC)) {
+            IngestStatus status = ingestionService.submit(person);
+            return ResponseEntity.accepted()
+                .location(URI.create("/ingest/" + status.trackingId()))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(status);
+        }
         Person entity = service.save(person);
         return ResponseEntity.status(HttpStatus.CREATED).body(entity);
     }
 
+    // Mudanças (created/updated/deleted) depois do commit, em vez de consultar GET / periodicamente.
+    // Cliente lento é desconectado; ao reconectar com lacuna nos ids deve recarregar por GET /
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @QueryBudget(0)
+    public SseEmitter events() {
+        return eventBroadcaster.subscribe();
+    }
+
+    @GetMapping("ingest/{trackingId}")
+    @QueryBudget(0)
+    public ResponseEntity<IngestStatus> ingestStatus(@PathVariable("trackingId") String trackingId) {
+        return ResponseEntity.ok(ingestionService.status(trackingId));
+    }
+
+    // Até 20 lotes de 50: consulta de e-mails existentes, sequence e INSERT em lote por lote
+    @PostMapping("batch")
+    @Admission(Priority.BULK)
+    @QueryBudget(60)
+    public ResponseEntity<List<BatchItemResult>> createBatch(@RequestBody List<Person> people) {
+        if (people.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(String.format("O lote deve ter no máximo %d pessoas", MAX_BATCH_SIZE));
+        }
+        List<BatchItemResult> results = service.saveAll(people);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = "import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Admission(Priority.BULK)
+    @QueryBudget(QueryBudget.UNLIMITED)
+    public ResponseEntity<ImportSummary> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        ImportSummary summary = importService.importCsv(file.getInputStream());
+        return ResponseEntity.ok(summary);
+    }
+
     @PutMapping("{id}")
-    public ResponseEntity<Person> update(@Valid @RequestBody Person person, @PathVariable("id") Long id) {
-        Person entity = service.update(id, person);
-        return ResponseEntity.ok(entity);
+    @QueryBudget(3)
+    public ResponseEntity<Person> update(@Valid @RequestBody Person person, @PathVariable("id") Long id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch, WebRequest request) {
+        Person entity = service.update(id, person, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(String.valueOf(entity.getVersion()), request)).body(entity);
+    }
+
+    @PatchMapping("{id}")
+    @QueryBudget(3)
+    public ResponseEntity<Person> patch(@RequestBody Person changes, @PathVariable("id") Long id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch, WebRequest request) {
+        Person entity = service.patch(id, changes, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(String.valueOf(entity.getVersion()), request)).body(entity);
+    }
+
+    // Até 2 lotes de 500, um DELETE por lote; um lote com ids inexistentes custa mais 2 comandos (SELECT ... FOR UPDATE e DELETE)
+    @DeleteMapping
+    @Admission(Priority.BULK)
+    @QueryBudget(2)
+    public ResponseEntity<BulkDeleteDto> deleteAll(@RequestParam("ids") List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(String.format("O lote deve ter no máximo %d pessoas", MAX_BATCH_SIZE));
+        }
+        int deleted = service.deleteAllById(ids);
+        return ResponseEntity.ok(new BulkDeleteDto(ids.size(), deleted));
     }
 
     @DeleteMapping("{id}")
+    @QueryBudget(1)
     public ResponseEntity<Void> delete(@PathVariable("id") Long id) {
         service.deleteById(id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    // JSON, Smile e CBOR do mesmo recurso têm ETags diferentes ("3", "3-smile", "3-cbor")
+    private static String eTag(String tag, WebRequest request) {
+        return BinaryFormatsConfig.representationTag(tag, request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    // If-Match: "3", "3-smile" ou "3-cbor" -> versão 3; ausente ou * -> sem pré-condição.
+    // ETags fracas nunca satisfazem If-Match (comparação forte)
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        try {
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                return Long.valueOf(BinaryFormatsConfig.baseTag(tag.substring(1, tag.length() - 1)));
+            }
+        } catch (NumberFormatException e) {
+            // cai na exceção abaixo
+        }
+        throw new PreconditionFailedException(String.format("If-Match %s não corresponde à versão atual", ifMatch));
+    }
+
 }
@@ -0,0 +1,5 @@
+package br.com.gustavo.demo.web.dto;
+
+// requested: ids recebidos; deleted: linhas efetivamente removidas (ids inexistentes ou repetidos não contam)
+public record BulkDeleteDto(int requested, int deleted) {
+}
@@ -0,0 +1,13 @@
+package br.com.gustavo.demo.web.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Página por cursor (keyset): nextCursor é o id a ser enviado em ?after= para buscar a próxima página
+public record CursorPageDto<T>(
+    List<T> content,
+    int limit,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long nextCursor
+) {
+}
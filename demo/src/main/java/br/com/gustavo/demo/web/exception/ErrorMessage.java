@@ -2,6 +2,7 @@ package br.com.gustavo.demo.web.exception;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
@@ -10,6 +11,7 @@ import org.springframework.validation.FieldError;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -44,6 +46,22 @@ public class ErrorMessage {
         addError(result);
     }
 
+    public ErrorMessage(HttpServletRequest request, HttpStatus status, String message, Set<? extends ConstraintViolation<?>> violations) {
+        this.path = request.getRequestURI();
+        this.method = request.getMethod();
+        this.status = status.value();
+        this.statusText = status.getReasonPhrase();
+        this.message = message;
+        addError(violations);
+    }
+
+    private void addError(Set<? extends ConstraintViolation<?>> violations) {
+        errors = new HashMap<>();
+        for (ConstraintViolation<?> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+    }
+
     private void addError(BindingResult result) {
         errors = new HashMap<>();
         for (FieldError fieldError : result.getFieldErrors()) {
@@ -1,15 +1,24 @@
 package br.com.gustavo.demo.web.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import br.com.gustavo.demo.exception.BatchSizeExceededException;
 import br.com.gustavo.demo.exception.EmailUniqueValidationException;
 import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.InvalidCsvException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import br.com.gustavo.demo.exception.TooManyRequestsException;
+import br.com.gustavo.demo.web.interceptor.AdmissionControlInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
 
 @RestControllerAdvice
 public class ExceptionHandler {
@@ -30,6 +39,66 @@ public class ExceptionHandler {
             .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
     }
     
+    @org.springframework.web.bind.annotation.ExceptionHandler(BatchSizeExceededException.class) 
+    public ResponseEntity<ErrorMessage> batchSizeExceededException(RuntimeException ex, HttpServletRequest request) {
+        return ResponseEntity  
+            .status(HttpStatus.PAYLOAD_TOO_LARGE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage()));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(InvalidCsvException.class) 
+    public ResponseEntity<ErrorMessage> invalidCsvException(RuntimeException ex, HttpServletRequest request) {
+        return ResponseEntity  
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(PreconditionFailedException.class) 
+    public ResponseEntity<ErrorMessage> preconditionFailedException(RuntimeException ex, HttpServletRequest request) {
+        return ResponseEntity  
+            .status(HttpStatus.PRECONDITION_FAILED)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.PRECONDITION_FAILED, ex.getMessage()));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(TooManyRequestsException.class) 
+    public ResponseEntity<ErrorMessage> tooManyRequestsException(ServiceOverloadedException ex, HttpServletRequest request) {
+        request.setAttribute(AdmissionControlInterceptor.SHED_ATTRIBUTE, true);
+        return ResponseEntity  
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(ServiceOverloadedException.class) 
+    public ResponseEntity<ErrorMessage> serviceOverloadedException(ServiceOverloadedException ex, HttpServletRequest request) {
+        request.setAttribute(AdmissionControlInterceptor.SHED_ATTRIBUTE, true);
+        return ResponseEntity  
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(ObjectOptimisticLockingFailureException.class) 
+    public ResponseEntity<ErrorMessage> objectOptimisticLockingFailureException(RuntimeException ex, HttpServletRequest request) {
+        return ResponseEntity  
+            .status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.CONFLICT, "O registro foi alterado por outra requisição, tente novamente"));
+    }
+    
+    @org.springframework.web.bind.annotation.ExceptionHandler(ConstraintViolationException.class) 
+    public ResponseEntity<ErrorMessage> constraintViolationException(ConstraintViolationException ex, HttpServletRequest request) {
+        return ResponseEntity  
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ErrorMessage(request, HttpStatus.BAD_REQUEST, "Campo(s) inválido(s)", ex.getConstraintViolations()));
+    }
+    
     @org.springframework.web.bind.annotation.ExceptionHandler(MethodArgumentNotValidException.class) 
     public ResponseEntity<ErrorMessage> methodArgumentNotValidException(MethodArgumentNotValidException ex, HttpServletRequest request, BindingResult result) {
         return ResponseEntity  
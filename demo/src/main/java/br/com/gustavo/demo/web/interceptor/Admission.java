@@ -0,0 +1,35 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Prioridade do endpoint no controle de admissão; sem a anotação GET/HEAD contam como READ e o resto como WRITE
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    Priority value();
+
+    // Fração do limite global de requisições simultâneas que cada prioridade pode ocupar: com a aplicação cheia
+    // os lotes são recusados primeiro, depois as escritas, e as leituras ficam com o que sobra
+    enum Priority {
+
+        READ(1.0),
+        WRITE(0.8),
+        BULK(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+
+        public double share() {
+            return share;
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import br.com.gustavo.demo.config.AdmissionControl;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import br.com.gustavo.demo.exception.TooManyRequestsException;
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Recusa na hora (antes de pegar conexão do pool) o que não cabe nos limites; a latência vai do preHandle ao fim da
+// resposta. Em requisições assíncronas (GET /export) a vaga só é devolvida no fim do processamento assíncrono
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    // Marcado pelo ExceptionHandler quando a própria aplicação recusa a requisição (fila cheia, limite de importações)
+    public static final String SHED_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".shed";
+
+    private final AdmissionControl admission;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlInterceptor(AdmissionControl admission, long retryAfterSeconds) {
+        this.admission = admission;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ERROR
+                || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        Priority priority = priority(request, handlerMethod);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        AdmissionControl.Permit permit = admission.tryAcquire(endpoint, priority);
+        if (permit == null) {
+            String message = String.format("Servidor sobrecarregado, tente novamente em %d s", retryAfterSeconds);
+            throw priority == Priority.BULK
+                ? new TooManyRequestsException(message, retryAfterSeconds)
+                : new ServiceOverloadedException(message, retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionControl.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            // Recusa da aplicação não diz nada sobre a lentidão do endpoint; qualquer outro 5xx conta como falha
+            if (request.getAttribute(SHED_ATTRIBUTE) != null) {
+                admission.discard(permit);
+            } else {
+                admission.release(permit, ex != null || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private static Priority priority(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Admission annotation = handlerMethod.getMethodAnnotation(Admission.class);
+        if (annotation != null) {
+            return annotation.value();
+        }
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()) ? Priority.READ : Priority.WRITE;
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Número máximo de comandos SQL esperado para uma requisição ao endpoint; acima disso o QueryBudgetInterceptor loga um aviso
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int UNLIMITED = -1;
+
+    int value();
+
+}
@@ -0,0 +1,57 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import br.com.gustavo.demo.config.QueryCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Conta os comandos SQL executados na thread da requisição (incluindo a serialização da resposta) e compara com o orçamento do endpoint.
+// O total fica no atributo QUERY_COUNT_ATTRIBUTE da requisição para os testes conferirem
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".count";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+
+    private final int defaultBudget;
+
+    public QueryBudgetInterceptor(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        int count = QueryCounter.stop();
+        request.setAttribute(QUERY_COUNT_ATTRIBUTE, count);
+        QueryBudget annotation = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        int budget = annotation == null ? defaultBudget : annotation.value();
+        if (budget != QueryBudget.UNLIMITED && count > budget) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.warn("{} {} executou {} comandos SQL (orçamento {})", request.getMethod(),
+                pattern != null ? pattern : request.getRequestURI(), count, budget);
+        }
+    }
+
+    // Requisições assíncronas (GET /export) continuam em outra thread; a contagem desta thread é descartada
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.stop();
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import br.com.gustavo.demo.config.ReadYourWrites;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Abre o escopo de leitura das próprias escritas da requisição; o cliente que acabou de escrever em outra requisição
+// envia X-Read-Your-Writes: true para ler do primário
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.begin(Boolean.parseBoolean(request.getHeader(HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWrites.end();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.end();
+    }
+
+}
@@ -0,0 +1,269 @@
+package br.com.gustavo.demo.web.sse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import br.com.gustavo.demo.service.PersonEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Distribui os PersonEvent para os assinantes de GET /events (SSE). Cada evento é serializado uma vez e o mesmo quadro
+// vai para a fila limitada de cada assinante; um pool pequeno de threads esvazia as filas que têm dados (no máximo
+// uma tarefa por assinante), então assinantes parados não ocupam thread. Quem deixa a fila encher é desconectado e
+// deve recarregar por GET / ao reconectar (lacuna nos ids). O pool é de threads de plataforma porque o send do
+// SseEmitter é synchronized e prenderia virtual threads ao carrier durante a escrita no socket.
+// A escrita no socket bloqueia: um envio parado há mais de sendTimeout marca o assinante como lento (desconectado) e o
+// pool ganha uma thread enquanto aquela escrita não volta, para clientes parados não esgotarem o pool dos demais
+
+@Component
+public class PersonEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonEventBroadcaster.class);
+    private static final long RETRY_AFTER_SECONDS = 5;
+    // Quadros por passada: um assinante com a fila cheia não segura a thread por bufferSize escritas seguidas
+    static final int MAX_FRAMES_PER_DRAIN = 32;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Assinantes com uma escrita em andamento (inclusive os já removidos por fila cheia, cuja escrita ainda prende uma thread)
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final LongAdder disconnected = new LongAdder();
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int dispatchThreads;
+    private final Duration sendTimeout;
+    private final Duration heartbeat;
+    private final Duration timeout;
+
+    private ThreadPoolExecutor dispatcher;
+    private int stalledSends;
+    private ScheduledExecutorService heartbeats;
+
+    public PersonEventBroadcaster(
+            @Value("${app.events.buffer-size:1024}") int bufferSize,
+            @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.events.dispatch-threads:4}") int dispatchThreads,
+            @Value("${app.events.send-timeout:5s}") Duration sendTimeout,
+            @Value("${app.events.heartbeat:15s}") Duration heartbeat,
+            @Value("${app.events.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.dispatchThreads = dispatchThreads;
+        this.sendTimeout = sendTimeout;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("person-events-", 0).daemon().factory());
+        heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("person-events-heartbeat").daemon().factory());
+        // Comentário periódico: mantém a conexão aberta em proxies e descobre clientes que já foram embora
+        heartbeats.scheduleAtFixedRate(() -> broadcast(SseEmitter.event().comment("ping").build()),
+            heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(1, sendTimeout.toMillis() / 2);
+        heartbeats.scheduleAtFixedRate(this::checkStalledSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+        MeterRegistry registry = meterRegistry == null ? null : meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("person.events.subscribers", subscribers, Set::size)
+                .description("Assinantes conectados em GET /events")
+                .register(registry);
+            FunctionCounter.builder("person.events.disconnected", disconnected, LongAdder::sum)
+                .description("Assinantes desconectados por não acompanharem os eventos")
+                .register(registry);
+        }
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException(String.format("Limite de assinantes de eventos atingido, tente novamente em %d s", RETRY_AFTER_SECONDS), RETRY_AFTER_SECONDS);
+        }
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @EventListener
+    public void onPersonEvent(PersonEvent event) {
+        String json;
+        try {
+            json = mapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Falha ao serializar o evento {} da pessoa {}", event.type(), event.id(), e);
+            return;
+        }
+        broadcast(SseEmitter.event()
+            .id(Long.toString(event.sequence()))
+            .name(event.type().eventName())
+            .data(json)
+            .build());
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDisconnectedCount() {
+        return disconnected.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        heartbeats.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber);
+        }
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer().offer(frame)) {
+                schedule(subscriber);
+            } else {
+                disconnected.increment();
+                close(subscriber);
+            }
+        }
+    }
+
+    // Quem publica nunca escreve no emitter: a escrita (e o complete, que disputa o mesmo lock) fica com o pool
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closing().set(true);
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled().compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                subscriber.scheduled().set(false);
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            int sent = 0;
+            while (sent++ < MAX_FRAMES_PER_DRAIN && !subscriber.closing().get() && (frame = subscriber.buffer().poll()) != null) {
+                subscriber.sendStartedNanos().set(System.nanoTime());
+                sending.add(subscriber);
+                try {
+                    subscriber.emitter().send(frame);
+                } finally {
+                    sending.remove(subscriber);
+                    if (subscriber.stalled().compareAndSet(true, false)) {
+                        resizeDispatcher(-1);
+                    }
+                }
+            }
+            if (subscriber.closing().get()) {
+                subscriber.buffer().clear();
+                subscriber.emitter().complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou emitter já encerrado; o container avisa o emitter pelo onError
+            subscribers.remove(subscriber);
+            subscriber.closing().set(true);
+            subscriber.buffer().clear();
+            return;
+        } finally {
+            subscriber.scheduled().set(false);
+        }
+        // Restante da fila (volta para o fim do pool) ou evento/desconexão que chegou entre o último poll e a liberação da tarefa
+        if (!subscriber.buffer().isEmpty() || subscriber.closing().get()) {
+            schedule(subscriber);
+        }
+    }
+
+    // Envio parado além de sendTimeout: cliente que não lê. Sai dos assinantes (o complete fica para quando a escrita
+    // voltar, pelo erro de timeout do container) e o pool cresce uma thread até lá
+    void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (now - subscriber.sendStartedNanos().get() > sendTimeout.toNanos() && subscriber.stalled().compareAndSet(false, true)) {
+                log.debug("Assinante de eventos sem ler há mais de {}; desconectando", sendTimeout);
+                if (subscribers.contains(subscriber)) {
+                    disconnected.increment();
+                }
+                close(subscriber);
+                resizeDispatcher(1);
+            }
+        }
+    }
+
+    // Threads extras = envios parados no momento; o envio pode voltar antes do incremento, por isso o piso em dispatchThreads
+    private synchronized void resizeDispatcher(int delta) {
+        stalledSends += delta;
+        int size = dispatchThreads + Math.max(0, stalledSends);
+        if (size > dispatcher.getMaximumPoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    int getDispatchThreads() {
+        return dispatcher.getCorePoolSize();
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer,
+            AtomicBoolean scheduled, AtomicBoolean closing, AtomicLong sendStartedNanos, AtomicBoolean stalled) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this(emitter, buffer, new AtomicBoolean(), new AtomicBoolean(), new AtomicLong(), new AtomicBoolean());
+        }
+
+    }
+
+}
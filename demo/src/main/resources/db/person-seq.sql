@@ -0,0 +1,5 @@
+-- Garante que a sequence de pessoas (tabela person_seq no MySQL, pooled optimizer com allocationSize = 50)
+-- comece acima do maior id ja gravado. Bancos que usavam IDENTITY tem ids sem a sequence saber deles e os primeiros
+-- INSERTs depois do deploy colidiriam com chaves existentes. O pooled usa de next_val - 49 ate next_val, por isso
+-- o minimo e MAX(id) + 51. Idempotente: roda em toda subida e nunca diminui a sequence
+UPDATE person_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM person));
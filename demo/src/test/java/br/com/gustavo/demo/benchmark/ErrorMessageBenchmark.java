@@ -0,0 +1,89 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.web.exception.ErrorMessage;
+import br.com.gustavo.demo.web.exception.ExceptionHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+// Montagem do ErrorMessage nos handlers do ExceptionHandler (a exceção já criada, sem o custo do stack trace)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMessageBenchmark {
+
+    private final ExceptionHandler handler = new ExceptionHandler();
+    private ValidatorFactory factory;
+    private MockHttpServletRequest request;
+    private EntityNotFoundException notFound;
+    private MethodArgumentNotValidException argumentNotValid;
+    private BeanPropertyBindingResult bindingResult;
+    private ConstraintViolationException constraintViolation;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("POST", "/");
+        notFound = new EntityNotFoundException("Person com id 1 não encontrado");
+
+        Person invalid = new Person("Gus", "S", "g@g.com", "", "M");
+        bindingResult = new BeanPropertyBindingResult(invalid, "person");
+        bindingResult.rejectValue("firstName", "Size", "size must be between 4 and 80");
+        bindingResult.rejectValue("lastName", "Size", "size must be between 2 and 80");
+        bindingResult.rejectValue("email", "Size", "size must be between 10 and 100");
+        bindingResult.rejectValue("address", "NotBlank", "must not be blank");
+        MethodParameter parameter = new MethodParameter(ExceptionHandler.class.getMethod("methodArgumentNotValidException",
+            MethodArgumentNotValidException.class, HttpServletRequest.class, BindingResult.class), 0);
+        argumentNotValid = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        factory = Validation.buildDefaultValidatorFactory();
+        constraintViolation = new ConstraintViolationException(factory.getValidator().validate(invalid));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> entityNotFound() {
+        return handler.entityNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> methodArgumentNotValid() {
+        return handler.methodArgumentNotValidException(argumentNotValid, request, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> constraintViolation() {
+        return handler.constraintViolationException(constraintViolation, request);
+    }
+
+}
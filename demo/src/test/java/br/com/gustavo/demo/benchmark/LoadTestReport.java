@@ -0,0 +1,95 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Resultado de uma execução do PersonLoadTest; salvo em JSON para comparar com execuções anteriores (latências em ms)
+public record LoadTestReport(String startedAt, int arrivalRate, long warmupSeconds, long durationSeconds, String mix,
+        double throughput, Stats overall, Map<String, Stats> operations) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public record Stats(long requests, long errors, double p50, double p95, double p99, double max) {
+
+        static Stats of(long[] latenciesNanos, long errors) {
+            long[] sorted = latenciesNanos.clone();
+            Arrays.sort(sorted);
+            return new Stats(sorted.length + errors, errors, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                percentile(sorted, 0.99), sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]));
+        }
+
+        double errorRate() {
+            return requests == 0 ? 0 : errors / (double) requests;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return millis(sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)]);
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+
+    }
+
+    // Regressões em relação à execução de referência: p95/p99 acima de (1 + maxRegression) vezes o anterior,
+    // vazão abaixo de (1 - maxRegression) vezes o anterior ou taxa de erro acima de maxErrorRate
+    public List<String> check(LoadTestReport baseline, double maxRegression, double maxErrorRate) {
+        List<String> problems = new ArrayList<>();
+        if (overall.errorRate() > maxErrorRate) {
+            problems.add(String.format("taxa de erro %.2f%% acima do limite de %.2f%%", overall.errorRate() * 100, maxErrorRate * 100));
+        }
+        if (baseline == null) {
+            return problems;
+        }
+        if (throughput < baseline.throughput() * (1 - maxRegression)) {
+            problems.add(String.format("vazão caiu de %.1f para %.1f req/s", baseline.throughput(), throughput));
+        }
+        compare("geral", overall, baseline.overall(), maxRegression, problems);
+        operations.forEach((name, stats) -> {
+            Stats previous = baseline.operations().get(name);
+            if (previous != null) {
+                compare(name, stats, previous, maxRegression, problems);
+            }
+        });
+        return problems;
+    }
+
+    private static void compare(String name, Stats current, Stats previous, double maxRegression, List<String> problems) {
+        if (current.p95() > previous.p95() * (1 + maxRegression)) {
+            problems.add(String.format("%s: p95 subiu de %.1f para %.1f ms", name, previous.p95(), current.p95()));
+        }
+        if (current.p99() > previous.p99() * (1 + maxRegression)) {
+            problems.add(String.format("%s: p99 subiu de %.1f para %.1f ms", name, previous.p99(), current.p99()));
+        }
+    }
+
+    // Grava load-<data>.json no diretório e atualiza latest.json
+    public Path save(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = directory.resolve("load-" + timestamp + ".json");
+        MAPPER.writeValue(file.toFile(), this);
+        Files.copy(file, directory.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    public static LoadTestReport load(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadTestReport.class);
+    }
+
+}
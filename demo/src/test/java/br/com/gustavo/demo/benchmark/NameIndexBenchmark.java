@@ -0,0 +1,74 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.service.NameIndex;
+
+// Busca por prefixo no NameIndex com milhões de nomes; o objetivo é ficar abaixo de 1 ms por busca
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class NameIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = { "Gustavo", "Guilherme", "Maria", "João", "Ana", "Eduarda", "Leonardo", "Beatriz", "Carlos", "Júlia" };
+    private static final String[] LAST_NAMES = { "Souza", "Silva", "Santos", "Oliveira", "Costa", "Almeida", "Pereira", "Lima", "Gomes", "Ribeiro" };
+
+    @Param({"1000000"})
+    public int size;
+
+    private NameIndex index;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = new NameIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= size; id++) {
+            index.put(person(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + random.nextInt(1000),
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)]));
+        }
+        sequence = size;
+    }
+
+    @Benchmark
+    public List<PersonName> searchShortPrefix() {
+        return index.search("gus", 10);
+    }
+
+    @Benchmark
+    public List<PersonName> searchFullNamePrefix() {
+        return index.search("maria42 sil", 10);
+    }
+
+    @Benchmark
+    public void put() {
+        index.put(person(++sequence, "Gustavo", "Souza"));
+    }
+
+    private static Person person(long id, String firstName, String lastName) {
+        Person person = new Person(firstName, lastName, null, null, null);
+        person.setId(id);
+        return person;
+    }
+
+}
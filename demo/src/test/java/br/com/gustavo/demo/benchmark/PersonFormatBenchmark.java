@@ -0,0 +1,89 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.web.dto.CursorPageDto;
+
+// JSON x Smile x CBOR para uma página de GET / (CursorPageDto<Person>), com o mesmo ObjectMapper dos conversores do
+// BinaryFormatsConfig. O tamanho de cada payload sai no log do setup ("payload ...").
+//   mvn -Pjmh test-compile exec:exec -Djmh.args="PersonFormatBenchmark -rf json -rff target/jmh-format.json"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonFormatBenchmark {
+
+    private static final TypeReference<CursorPageDto<Person>> PAGE = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"50", "500", "5000"})
+    public int listSize;
+
+    private ObjectMapper mapper;
+    private CursorPageDto<Person> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        List<Person> people = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            people.add(newPerson(i));
+        }
+        page = new CursorPageDto<>(people, listSize, (long) listSize);
+        encoded = mapper.writeValueAsBytes(page);
+        System.out.printf("payload %s listSize=%d: %d bytes (%.1f bytes/pessoa)%n", format, listSize, encoded.length, encoded.length / (double) listSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CursorPageDto<Person> decode() throws IOException {
+        return mapper.readValue(encoded, PAGE);
+    }
+
+    private static Person newPerson(long id) {
+        Person person = new Person("Gustavo", "Souza", "gsouza" + id + "@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(id);
+        person.setVersion(0L);
+        return person;
+    }
+
+}
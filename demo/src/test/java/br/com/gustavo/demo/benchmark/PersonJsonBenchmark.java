@@ -0,0 +1,69 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.entity.Person;
+
+// Serialização Jackson com a mesma configuração padrão que o Spring MVC usa nas respostas
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonJsonBenchmark {
+
+    @Param({"50", "500"})
+    public int listSize;
+
+    private ObjectMapper mapper;
+    private Person person;
+    private List<Person> people;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        person = newPerson(1);
+        people = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            people.add(newPerson(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePerson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(person);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(people);
+    }
+
+    private static Person newPerson(long id) {
+        Person person = new Person("Gustavo", "Souza", "gsouza" + id + "@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(id);
+        person.setVersion(0L);
+        return person;
+    }
+
+}
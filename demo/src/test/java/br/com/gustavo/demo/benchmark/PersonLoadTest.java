@@ -0,0 +1,251 @@
+package br.com.gustavo.demo.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.DemoApplication;
+import br.com.gustavo.demo.entity.Person;
+
+// Teste de carga do PersonController em modelo aberto: as requisições chegam numa taxa fixa, independente de as
+// anteriores já terem respondido, e a latência é medida a partir do instante em que a requisição deveria ter saído
+// (um servidor lento não reduz a carga nem esconde a fila). Não roda no build normal:
+//   mvn test -Pbenchmark -Dtest=PersonLoadTest
+// Parâmetros (-D): load.rate=200 (req/s), load.seconds=30, load.warmup-seconds=5, load.seed=200,
+//   load.mix=findById=70,findPage=10,create=10,update=10, load.max-in-flight=5000,
+//   load.datasource.url/username/password (padrão H2 em memória), load.results-dir=target/load-test,
+//   load.baseline=<json de uma execução anterior>, load.max-regression=0.20, load.max-error-rate=0.01
+@Tag("benchmark")
+public class PersonLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private static final int SEED = Integer.getInteger("load.seed", 200);
+    private static final String MIX = System.getProperty("load.mix", "findById=70,findPage=10,create=10,update=10");
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 5000);
+    private static final String DATASOURCE_URL = System.getProperty("load.datasource.url", "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    private static final Path RESULTS = Path.of(System.getProperty("load.results-dir", "target/load-test"));
+    private static final String BASELINE = System.getProperty("load.baseline");
+    private static final double MAX_REGRESSION = Double.parseDouble(System.getProperty("load.max-regression", "0.20"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Long> ids = new ArrayList<>();
+    private HttpClient http;
+    private URI baseUri;
+
+    private enum Operation {
+        FIND_BY_ID("findById", 200),
+        FIND_PAGE("findPage", 200),
+        CREATE("create", 201),
+        UPDATE("update", 200);
+
+        final String label;
+        final int expectedStatus;
+
+        Operation(String label, int expectedStatus) {
+            this.label = label;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    @Test
+    public void loadTestPersonController() throws Exception {
+        ConfigurableApplicationContext app = start();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            http = HttpClient.newBuilder().executor(clients).version(HttpClient.Version.HTTP_1_1).build();
+            baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort() + "/");
+            for (int i = 0; i < SEED; i++) {
+                HttpResponse<String> response = http.send(request(Operation.CREATE, 0), HttpResponse.BodyHandlers.ofString());
+                ids.add(mapper.readValue(response.body(), Person.class).getId());
+            }
+
+            LoadTestReport report = drive(clients);
+            Path saved = report.save(RESULTS);
+            print(report, saved);
+
+            LoadTestReport baseline = BASELINE == null ? null : LoadTestReport.load(Path.of(BASELINE));
+            List<String> problems = report.check(baseline, MAX_REGRESSION, MAX_ERROR_RATE);
+            assertTrue(problems.isEmpty(), "Regressão de desempenho:\n" + String.join("\n", problems));
+        } finally {
+            app.close();
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        boolean h2 = DATASOURCE_URL.startsWith("jdbc:h2:");
+        return new SpringApplicationBuilder(DemoApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=" + DATASOURCE_URL,
+            "--spring.datasource.driverClassName=" + (h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+            "--spring.datasource.username=" + System.getProperty("load.datasource.username", h2 ? "sa" : "root"),
+            "--spring.datasource.password=" + System.getProperty("load.datasource.password", ""),
+            "--spring.jpa.hibernate.ddl-auto=" + (h2 ? "create-drop" : "update"),
+            "--logging.level.root=WARN");
+    }
+
+    private LoadTestReport drive(ExecutorService clients) throws InterruptedException {
+        Operation[] schedule = schedule(MIX);
+        Map<Operation, Queue<Long>> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentLinkedQueue<>());
+            errors.put(operation, new AtomicLong());
+        }
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        String startedAt = LocalDateTime.now().toString();
+        long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long begin = System.nanoTime();
+        long measureFrom = begin + WARMUP.toNanos();
+        long end = measureFrom + DURATION.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = begin + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            long n = i;
+            boolean measured = intended >= measureFrom;
+            // Fila cheia conta como erro; o gerador nunca espera o servidor
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    errors.get(operation).incrementAndGet();
+                }
+                continue;
+            }
+            clients.submit(() -> {
+                boolean ok;
+                try {
+                    ok = http.send(request(operation, n), HttpResponse.BodyHandlers.discarding()).statusCode() == operation.expectedStatus;
+                } catch (Exception e) {
+                    ok = false;
+                } finally {
+                    inFlight.release();
+                }
+                if (measured) {
+                    if (ok) {
+                        latencies.get(operation).add(System.nanoTime() - intended);
+                    } else {
+                        errors.get(operation).incrementAndGet();
+                    }
+                }
+            });
+        }
+        inFlight.tryAcquire(MAX_IN_FLIGHT, REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+
+        Map<String, LoadTestReport.Stats> operations = new LinkedHashMap<>();
+        List<Long> all = new ArrayList<>();
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            List<Long> samples = List.copyOf(latencies.get(operation));
+            long operationErrors = errors.get(operation).get();
+            if (!samples.isEmpty() || operationErrors > 0) {
+                operations.put(operation.label, LoadTestReport.Stats.of(toArray(samples), operationErrors));
+            }
+            all.addAll(samples);
+            allErrors += operationErrors;
+        }
+        return new LoadTestReport(startedAt, RATE, WARMUP.toSeconds(), DURATION.toSeconds(), MIX,
+            all.size() / (double) DURATION.toSeconds(), LoadTestReport.Stats.of(toArray(all), allErrors), operations);
+    }
+
+    private HttpRequest request(Operation operation, long i) throws Exception {
+        // Os registros semeados têm e-mails 1..SEED, na mesma ordem de ids
+        int seeded = ids.isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.isEmpty() ? null : ids.get(seeded);
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (operation) {
+            case FIND_BY_ID -> builder.uri(baseUri.resolve(String.valueOf(id))).GET().build();
+            case FIND_PAGE -> builder.uri(baseUri.resolve("?after=" + id + "&limit=20")).GET().build();
+            case CREATE -> builder.uri(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(
+                    new Person("Gustavo", "Souza", email(sequence.incrementAndGet()), "São Paulo - Brasil", "Male"))))
+                .build();
+            case UPDATE -> builder.uri(baseUri.resolve(String.valueOf(id)))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(
+                    new Person("Gustavo", "Souza", email(seeded + 1), "Rua " + i, "Male"))))
+                .build();
+        };
+    }
+
+    // Os e-mails incluem o identificador da execução para poder repetir o teste contra o mesmo banco
+    private String email(long n) {
+        return "load-" + run + "-" + n + "@gmail.com";
+    }
+
+    // "findById=70,create=30" -> tabela com 70 entradas FIND_BY_ID e 30 CREATE para sortear
+    private static Operation[] schedule(String mix) {
+        List<Operation> schedule = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Operation operation = null;
+            for (Operation candidate : Operation.values()) {
+                if (candidate.label.equals(parts[0].trim())) {
+                    operation = candidate;
+                }
+            }
+            if (operation == null || parts.length != 2) {
+                throw new IllegalArgumentException("load.mix inválido: " + entry);
+            }
+            for (int i = 0; i < Integer.parseInt(parts[1].trim()); i++) {
+                schedule.add(operation);
+            }
+        }
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static long[] toArray(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void print(LoadTestReport report, Path saved) {
+        System.out.printf("%n%d req/s por %d s (aquecimento %d s), mix %s -> %s%n", report.arrivalRate(),
+            report.durationSeconds(), report.warmupSeconds(), report.mix(), saved);
+        System.out.printf("%-10s %10s %8s %9s %9s %9s %9s%n", "operação", "requests", "erros", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, LoadTestReport.Stats> rows = new LinkedHashMap<>(report.operations());
+        rows.put("geral", report.overall());
+        rows.forEach((name, stats) -> System.out.printf("%-10s %10d %8d %9.1f %9.1f %9.1f %9.1f%n", name,
+            stats.requests(), stats.errors(), stats.p50(), stats.p95(), stats.p99(), stats.max()));
+        System.out.printf("vazão: %.1f req/s%n", report.throughput());
+    }
+
+}
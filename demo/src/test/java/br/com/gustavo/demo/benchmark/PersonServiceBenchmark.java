@@ -0,0 +1,86 @@
+package br.com.gustavo.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.gustavo.demo.DemoApplication;
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.service.PersonService;
+
+// PersonService com o contexto Spring completo (transações, cache, índice de e-mails) sobre H2 em memória.
+// cacheSpec=maximumSize=0 desliga o cache e mede o findById indo ao banco.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonServiceBenchmark {
+
+    @Param({"maximumSize=10000", "maximumSize=0"})
+    public String cacheSpec;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private PersonService service;
+    private Long id;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.cache.caffeine.spec=" + cacheSpec,
+                "--logging.level.root=WARN");
+        service = context.getBean(PersonService.class);
+        id = service.save(newPerson()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Person save() {
+        return service.save(newPerson());
+    }
+
+    @Benchmark
+    public Person findById() {
+        return service.findById(id);
+    }
+
+    @Benchmark
+    public Person update() {
+        Person changes = new Person("Gustavo", "Souza", null, "Rua " + sequence.incrementAndGet(), "Male");
+        return service.update(id, changes, null);
+    }
+
+    private Person newPerson() {
+        return new Person("Gustavo", "Souza", "gsouza" + sequence.incrementAndGet() + "@gmail.com", "São Paulo - Brasil", "Male");
+    }
+
+}
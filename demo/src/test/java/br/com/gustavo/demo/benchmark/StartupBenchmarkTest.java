@@ -0,0 +1,163 @@
+package br.com.gustavo.demo.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.gustavo.demo.DemoApplication;
+
+// Tempo até a primeira resposta de GET / e memória residente (VmRSS do processo, só Linux) de cada forma de rodar o
+// DemoApplication, cada uma num processo novo. Não roda no build normal:
+//   mvn test -Pbenchmark -Dtest=StartupBenchmarkTest
+// Sem parâmetros mede só a JVM, com o classpath de teste e H2 em memória. Para comparar com a imagem nativa
+// (mvn -Pnative native:compile; o H2 não entra na imagem, então use o MySQL nos dois):
+//   -Dstartup.native=target/demo -Dstartup.jvm="java -jar target/demo-0.0.1-SNAPSHOT.jar"
+//   -Dstartup.args="--spring.datasource.url=jdbc:mysql://localhost:3308/people --spring.datasource.username=root --spring.datasource.password=root"
+// Para o modo JVM rápido (Dockerfile.cds) extraia o jar de mvn -Paot package (java -Djarmode=tools -jar ... extract), gere o
+// arquivo CDS com o mesmo comando e -XX:ArchiveClassesAtExit=app.jsa -Dspring.context.exit=onRefresh e compare, por exemplo
+// (o classpath tem que ser escrito igual ao do treino, senão a JVM ignora o arquivo sem avisar):
+//   -Dstartup.aot-cds="java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -cp app.jar:h2.jar br.com.gustavo.demo.DemoApplication"
+// Outros parâmetros (-D): startup.<nome>=<comando> para qualquer variante extra,
+//   startup.runs=5, startup.warm-requests=500, startup.timeout-seconds=120, startup.results-dir=target/startup
+@Tag("benchmark")
+public class StartupBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 5);
+    private static final int WARM_REQUESTS = Integer.getInteger("startup.warm-requests", 500);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("startup.timeout-seconds", 120));
+    private static final Path RESULTS = Path.of(System.getProperty("startup.results-dir", "target/startup"));
+    private static final String H2_ARGS = "--spring.datasource.url=jdbc:h2:mem:startup --spring.datasource.driverClassName=org.h2.Driver"
+        + " --spring.datasource.username=sa --spring.datasource.password= --spring.jpa.hibernate.ddl-auto=create-drop";
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private record Sample(long firstRequestMs, long rssAfterFirstRequestMb, long rssAfterWarmUpMb) {
+    }
+
+    @Test
+    public void startup() throws Exception {
+        Map<String, String> variants = variants();
+        String args = System.getProperty("startup.args", H2_ARGS);
+        Map<String, Object> report = new LinkedHashMap<>();
+        Files.createDirectories(RESULTS);
+        for (Map.Entry<String, String> variant : variants.entrySet()) {
+            List<Sample> samples = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                samples.add(measure(variant.getValue() + " " + args));
+            }
+            Map<String, Object> summary = summarize(samples);
+            report.put(variant.getKey(), summary);
+            System.out.printf("%-8s %s%n", variant.getKey(), summary);
+        }
+        assertFalse(report.isEmpty());
+        Path file = RESULTS.resolve("startup-" + System.currentTimeMillis() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.println("Resultado salvo em " + file);
+    }
+
+    // startup.jvm tem como padrão a JVM atual com o classpath deste teste (inclui o H2)
+    private static Map<String, String> variants() {
+        Map<String, String> variants = new LinkedHashMap<>();
+        variants.put("jvm", System.getProperty("startup.jvm", Path.of(System.getProperty("java.home"), "bin", "java")
+            + " -cp " + System.getProperty("java.class.path") + " " + DemoApplication.class.getName()));
+        System.getProperties().stringPropertyNames().stream().sorted()
+            .filter(name -> name.startsWith("startup.") && !variants.containsKey(name.substring("startup.".length())))
+            .filter(name -> !List.of("startup.args", "startup.runs", "startup.warm-requests", "startup.timeout-seconds", "startup.results-dir").contains(name))
+            .forEach(name -> variants.put(name.substring("startup.".length()), System.getProperty(name)));
+        return variants;
+    }
+
+    private Sample measure(String command) throws Exception {
+        int port = freePort();
+        List<String> commandLine = new ArrayList<>(Arrays.asList(command.trim().split("\\s+")));
+        commandLine.add("--server.port=" + port);
+        commandLine.add("--logging.level.root=WARN");
+        URI uri = URI.create("http://localhost:" + port + "/?limit=1");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(commandLine).redirectErrorStream(true)
+            .redirectOutput(RESULTS.resolve("last-run.log").toFile()).start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (!ok(uri)) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("A aplicação não respondeu (veja " + RESULTS.resolve("last-run.log") + "): " + command);
+                }
+                Thread.sleep(10);
+            }
+            long firstRequestMs = (System.nanoTime() - start) / 1_000_000;
+            long rssAfterFirstRequest = rssMb(process.pid());
+            for (int i = 0; i < WARM_REQUESTS; i++) {
+                ok(uri);
+            }
+            return new Sample(firstRequestMs, rssAfterFirstRequest, rssMb(process.pid()));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private boolean ok(URI uri) {
+        try {
+            return http.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long rssMb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+            .filter(line -> line.startsWith("VmRSS:"))
+            .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+            .findFirst().orElse(-1);
+    }
+
+    private static Map<String, Object> summarize(List<Sample> samples) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("runs", samples.size());
+        summary.put("firstRequestMsMedian", median(samples.stream().mapToLong(Sample::firstRequestMs).toArray()));
+        summary.put("firstRequestMsMin", samples.stream().mapToLong(Sample::firstRequestMs).min().orElse(0));
+        summary.put("rssAfterFirstRequestMb", median(samples.stream().mapToLong(Sample::rssAfterFirstRequestMb).toArray()));
+        summary.put("rssAfterWarmUpMb", median(samples.stream().mapToLong(Sample::rssAfterWarmUpMb).toArray()));
+        return summary;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
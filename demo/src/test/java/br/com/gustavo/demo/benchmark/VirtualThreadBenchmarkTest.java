@@ -0,0 +1,165 @@
+package br.com.gustavo.demo.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import br.com.gustavo.demo.DemoApplication;
+
+// Compara o modo padrão (pool de threads do Tomcat) com o modo virtual threads sob alta concorrência e banco lento.
+// Não roda no build normal: mvn test -Pbenchmark -Dtest=VirtualThreadBenchmarkTest
+// Parâmetros: -Dbenchmark.clients=1000 -Dbenchmark.seconds=20 -Dbenchmark.db-latency-ms=50 -Dbenchmark.tomcat-threads=50 -Dbenchmark.pool-size=100
+@Tag("benchmark")
+public class VirtualThreadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.seconds", 20));
+    private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 50);
+    private static final int TOMCAT_THREADS = Integer.getInteger("benchmark.tomcat-threads", 50);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 100);
+
+    private record Result(String mode, long requests, long errors, double throughput, long p50, long p99, long max) {
+    }
+
+    @Test
+    public void benchmarkPlatformThreadsVersusVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%d clientes, %d s, latência do banco %d ms, %d threads Tomcat, pool de %d conexões%n",
+            CLIENTS, DURATION.toSeconds(), DB_LATENCY_MS, TOMCAT_THREADS, POOL_SIZE);
+        System.out.printf("%-10s %10s %8s %10s %8s %8s %8s%n", "modo", "requests", "erros", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %10d %8d %10.1f %8d %8d %8d%n", result.mode(), result.requests(), result.errors(),
+                result.throughput(), result.p50(), result.p99(), result.max());
+        }
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(DemoApplication.class, DatabaseLatency.class)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.hikari.connection-timeout=30000",
+                "--spring.cache.caffeine.spec=maximumSize=0");
+        try {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            return load(mode, URI.create("http://localhost:" + port + "/"));
+        } finally {
+            app.close();
+        }
+    }
+
+    private Result load(String mode, URI baseUri) throws Exception {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder().executor(clients).version(HttpClient.Version.HTTP_1_1).build();
+            HttpResponse<String> created = http.send(HttpRequest.newBuilder(baseUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                    {"firstName": "Gustavo", "lastName": "Souza", "email": "gsouza@gmail.com", "address": "São Paulo - Brasil", "gender": "Male"}
+                    """))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, created.statusCode());
+            String id = created.body().replaceAll(".*\"id\":(\\d+).*", "$1");
+            HttpRequest findById = HttpRequest.newBuilder(baseUri.resolve(id)).GET().build();
+
+            long end = System.nanoTime() + DURATION.toNanos();
+            AtomicLong errors = new AtomicLong();
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        try {
+                            if (http.send(findById, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            long[] all = new long[0];
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            Arrays.sort(all);
+            return new Result(mode, all.length, errors.get(), all.length / (double) DURATION.toSeconds(),
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1_000_000);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1_000_000;
+    }
+
+    // Simula um banco lento: cada conexão obtida do pool fica ocupada DB_LATENCY_MS a mais antes de ser usada
+    public static class DatabaseLatency implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        Connection connection = super.getConnection();
+                        try {
+                            Thread.sleep(DB_LATENCY_MS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return connection;
+                    }
+                };
+            }
+            return bean;
+        }
+
+    }
+
+}
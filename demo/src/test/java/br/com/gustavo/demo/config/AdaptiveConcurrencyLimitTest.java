@@ -0,0 +1,101 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // limite inicial 10, entre 2 e 20, tolerância 2x, piso de 5 ms, backoff 0.5
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 20, 2.0, 5 * MS, 0.5, 1000);
+
+    @Test
+    public void testGivenLimit_whenAcquiringWithShare_thenOnlyThatFractionIsAdmitted() {
+        // When
+        int admitted = 0;
+        while (limit.tryAcquire(0.5)) {
+            admitted++;
+        }
+
+        // Then
+        assertEquals(5, admitted);
+        assertTrue(limit.tryAcquire(1.0));
+        assertEquals(6, limit.getInFlight());
+    }
+
+    @Test
+    public void testGivenBusyLimit_whenResponsesAreFast_thenLimitIncreases() {
+        // Given
+        for (int i = 0; i < 8; i++) {
+            limit.tryAcquire(1.0);
+        }
+
+        // When
+        limit.release(0, MS, false);
+        limit.release(0, MS, false);
+
+        // Then
+        assertEquals(12, limit.getLimit());
+    }
+
+    @Test
+    public void testGivenIdleLimit_whenResponsesAreFast_thenLimitStays() {
+        // Given
+        limit.tryAcquire(1.0);
+
+        // When
+        limit.release(0, MS, false);
+
+        // Then
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void testGivenSlowResponsesFromSameRound_whenReleasing_thenLimitDecreasesOnce() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire(1.0);
+        }
+        limit.release(0, MS, false);
+
+        // When
+        limit.release(MS, 100 * MS, false);
+        limit.release(2 * MS, 101 * MS, false);
+
+        // Then
+        assertEquals(5, limit.getLimit());
+
+        // When (requisição que começou depois da redução)
+        limit.release(102 * MS, 200 * MS, false);
+
+        // Then
+        assertEquals(2, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    public void testGivenFailures_whenReleasing_thenLimitNeverGoesBelowMinimum() {
+        // Given
+        long start = 0;
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire(1.0);
+            limit.release(start, start + MS, true);
+            start += 2 * MS;
+        }
+
+        // Then
+        assertEquals(2, limit.getLimit());
+        assertTrue(limit.tryAcquire(1.0));
+        assertTrue(limit.tryAcquire(1.0));
+        assertFalse(limit.tryAcquire(1.0));
+    }
+
+}
@@ -0,0 +1,50 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+
+public class AdmissionControlTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Endpoints começam em 10 (entre 2 e 20, tolerância 2x, piso de 5 ms, backoff 0.5); teto global fixo em 20
+    private final AdmissionControl admission = new AdmissionControl(
+        () -> new AdaptiveConcurrencyLimit(10, 2, 20, 2.0, 5 * MS, 0.5, 1000), 20, null);
+
+    @Test
+    public void testGivenSlowBulkRequests_whenReleasing_thenOnlyEndpointLimitDecreases() {
+        // Given
+        AdmissionControl.Permit fast = admission.tryAcquire("GET /export", Priority.BULK);
+        admission.release(fast, false);
+        AdmissionControl.Permit slow = new AdmissionControl.Permit(admission.limit("GET /export"), System.nanoTime() - 1000 * MS);
+        admission.tryAcquire("GET /export", Priority.BULK);
+
+        // When
+        admission.release(slow, false);
+
+        // Then
+        assertEquals(5, admission.limit("GET /export").getLimit());
+        assertEquals(20, admission.limit(AdmissionControl.GLOBAL).getLimit());
+        assertEquals(0, admission.limit(AdmissionControl.GLOBAL).getInFlight());
+    }
+
+    @Test
+    public void testGivenRequestShedByApplication_whenDiscarding_thenNoLimitChanges() {
+        // Given
+        AdmissionControl.Permit permit = admission.tryAcquire("POST /", Priority.WRITE);
+
+        // When
+        admission.discard(permit);
+
+        // Then
+        assertEquals(10, admission.limit("POST /").getLimit());
+        assertEquals(0, admission.limit("POST /").getInFlight());
+        assertEquals(0, admission.limit(AdmissionControl.GLOBAL).getInFlight());
+    }
+
+}
@@ -0,0 +1,132 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueRetrievalException;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class CoalescingCaffeineCacheTest {
+
+    private final CoalescingCaffeineCache cache = new CoalescingCaffeineCache("people", Caffeine.newBuilder().build(), false);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    public void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // Carga que só termina quando o teste liberar
+    private String blockingLoad(String value) throws InterruptedException {
+        loads.incrementAndGet();
+        loading.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        return value;
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void testGivenLoadInFlight_whenSameKeyIsRequested_thenCallersShareOneLoad() throws Exception {
+        // Given
+        Future<String> leader = executor.submit(() -> cache.get(1L, () -> blockingLoad("Gustavo")));
+        loading.await(5, TimeUnit.SECONDS);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            followers.add(executor.submit(() -> cache.get(1L, () -> blockingLoad("outro"))));
+        }
+        awaitCoalesced(10);
+
+        // When
+        release.countDown();
+
+        // Then
+        assertEquals("Gustavo", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("Gustavo", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(10, cache.getCoalescedCount());
+        assertEquals("Gustavo", cache.get(1L, String.class));
+    }
+
+    @Test
+    public void testGivenLoadInFlight_whenOtherKeyIsRequested_thenItDoesNotWait() throws Exception {
+        // Given
+        executor.submit(() -> cache.get(1L, () -> blockingLoad("Gustavo")));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // When
+        String other = executor.submit(() -> cache.get(2L, () -> "Duda")).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("Duda", other);
+        assertEquals(0, cache.getCoalescedCount());
+    }
+
+    @Test
+    public void testGivenFailingLoad_whenSameKeyIsRequested_thenCallersShareTheFailure() throws Exception {
+        // Given
+        IllegalStateException failure = new IllegalStateException("banco fora");
+        Future<String> leader = executor.submit(() -> cache.get(1L, () -> {
+            blockingLoad("Gustavo");
+            throw failure;
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> cache.get(1L, () -> "outro"));
+        awaitCoalesced(1);
+
+        // When
+        release.countDown();
+
+        // Then
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(failure, ((ValueRetrievalException) leaderError.getCause()).getCause());
+        assertSame(failure, ((ValueRetrievalException) followerError.getCause()).getCause());
+        assertNull(cache.get(1L));
+        assertEquals("Duda", cache.get(1L, () -> "Duda"));
+    }
+
+    @Test
+    public void testGivenLoadInFlight_whenKeyIsEvicted_thenLoadedValueIsNotCached() throws Exception {
+        // Given
+        Future<String> leader = executor.submit(() -> cache.get(1L, () -> blockingLoad("antigo")));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // When
+        cache.evict(1L);
+        release.countDown();
+
+        // Then
+        assertEquals("antigo", leader.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get(1L));
+        assertEquals("novo", cache.get(1L, () -> "novo"));
+    }
+
+}
@@ -0,0 +1,51 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.api.OpenApiWebMvcResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lazy-init;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "springdoc.api-docs.path=/docs",
+    "app.lazy-init.packages=org.springdoc,br.com.gustavo.demo.config.OpenApiConfig"
+})
+@AutoConfigureMockMvc
+public class LazyInitConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    public void testGivenSpringdocConfiguredLazy_whenRequestingDocs_thenBeansAreCreatedOnFirstUse() throws Exception {
+        // Given
+        String docsResource = beanFactory.getBeanNamesForType(OpenApiWebMvcResource.class, false, false)[0];
+        assertFalse(beanFactory.containsSingleton(docsResource));
+        assertFalse(beanFactory.containsSingleton("openApi"));
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/docs"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.info.title").value("REST API - People"));
+        assertTrue(beanFactory.containsSingleton(docsResource));
+        assertTrue(beanFactory.containsSingleton("openApi"));
+    }
+
+}
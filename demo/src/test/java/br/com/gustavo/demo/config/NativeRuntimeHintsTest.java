@@ -0,0 +1,61 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonSummary;
+import br.com.gustavo.demo.service.PersonEvent;
+import br.com.gustavo.demo.web.exception.ErrorMessage;
+
+public class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    public void setup() {
+        this.hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testGivenHints_whenCheckingProjections_thenConstructorsAreInvocable() {
+        // Given // When // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PersonSummary.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PersonName.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Person.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+    }
+
+    @Test
+    public void testGivenHints_whenCheckingErrorMessage_thenGettersAreInvocable() throws Exception {
+        // Given // When // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ErrorMessage.class.getMethod("getMessage")).test(hints));
+    }
+
+    @Test
+    public void testGivenHints_whenCheckingPersonEvent_thenAccessorsAreInvocable() throws Exception {
+        // Given // When // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(PersonEvent.class.getMethod("sequence")).test(hints));
+    }
+
+    @Test
+    public void testGivenHints_whenCheckingJdbcProxiesAndBundles_thenAreRegistered() {
+        // Given // When // Then
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forBundle("ValidationMessages").test(hints));
+    }
+
+}
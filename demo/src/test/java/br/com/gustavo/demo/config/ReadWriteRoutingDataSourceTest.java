@@ -0,0 +1,191 @@
+package br.com.gustavo.demo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Dois (ou três) bancos H2 em memória fazendo o papel de primário e réplicas; cada consulta responde o nome do banco que a atendeu
+public class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    private void setup(Map<String, DataSource> replicas, String lagQuery) {
+        this.routing = new ReadWriteRoutingDataSource(h2("primary"), replicas, Duration.ofSeconds(5), lagQuery);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    public void testGivenReadOnlyTransaction_whenQuery_thenUsesReplica() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+
+        // When
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("REPLICA0", database);
+    }
+
+    @Test
+    public void testGivenReadWriteTransaction_whenQuery_thenUsesPrimary() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+
+        // When
+        String database = readWrite.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("PRIMARY", database);
+    }
+
+    @Test
+    public void testGivenTwoReplicas_whenSeveralReads_thenAlternatesBetweenThem() {
+        // Given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", h2("replica0"));
+        replicas.put("replica-1", h2("replica1"));
+        setup(replicas, null);
+
+        // When
+        String first = readOnly.execute(status -> currentDatabase());
+        String second = readOnly.execute(status -> currentDatabase());
+        String third = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("REPLICA0", first);
+        assertEquals("REPLICA1", second);
+        assertEquals("REPLICA0", third);
+    }
+
+    @Test
+    public void testGivenReplicaDown_whenRead_thenFallsBackToPrimaryAndSkipsReplica() throws SQLException {
+        // Given
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        setup(Map.of("replica-0", down), null);
+
+        // When
+        String first = readOnly.execute(status -> currentDatabase());
+        String second = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("PRIMARY", first);
+        assertEquals("PRIMARY", second);
+        verify(down, times(1)).getConnection();
+    }
+
+    @Test
+    public void testGivenReplicaLagAboveLimit_whenHealthCheckRuns_thenReadsGoToPrimaryUntilItCatchesUp() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), "SELECT 30");
+
+        // When
+        routing.checkReplicas();
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("PRIMARY", database);
+    }
+
+    @Test
+    public void testGivenWriteInsideReadYourWritesScope_whenReadAfterwards_thenUsesPrimary() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+        ReadYourWrites.begin(false);
+        String before = readOnly.execute(status -> currentDatabase());
+
+        // When
+        readWrite.execute(status -> currentDatabase());
+        String after = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("REPLICA0", before);
+        assertEquals("PRIMARY", after);
+    }
+
+    @Test
+    public void testGivenWriteOutsideReadYourWritesScope_whenReadAfterwards_thenStillUsesReplica() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+
+        // When
+        readWrite.execute(status -> currentDatabase());
+        String after = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("REPLICA0", after);
+    }
+
+    @Test
+    public void testGivenReadFromPrimary_whenReadOnlyTransaction_thenUsesPrimaryOnlyInsideIt() {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+
+        // When
+        String inside = readOnly.execute(status -> ReadYourWrites.fromPrimary(this::currentDatabase));
+        String after = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("PRIMARY", inside);
+        assertEquals("REPLICA0", after);
+    }
+
+    @Test
+    public void testGivenExplicitCredentials_whenGetConnection_thenUsesPrimary() throws SQLException {
+        // Given
+        setup(Map.of("replica-0", h2("replica0")), null);
+
+        // When
+        String database;
+        try (Connection connection = routing.getConnection("sa", "")) {
+            database = new JdbcTemplate(new SingleConnectionDataSource(connection, true)).queryForObject("SELECT DATABASE()", String.class);
+        }
+
+        // Then
+        assertEquals("PRIMARY", database);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,70 @@
+package br.com.gustavo.demo.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonRepository;
+import br.com.gustavo.demo.web.interceptor.ReadYourWritesInterceptor;
+
+// Primário e réplica são dois H2 separados e sem replicação: o que só existe no primário mostra para onde a leitura foi
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.datasource.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+    "app.datasource.replicas[0].username=sa",
+    "app.datasource.replicas[0].password="
+})
+@AutoConfigureMockMvc
+public class ReplicaRoutingConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository repository;
+
+    private Person person;
+
+    @BeforeEach
+    public void setup() {
+        repository.deleteAllInBatch();
+        person = repository.save(new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male"));
+    }
+
+    @Test
+    public void testGivenPersonOnlyOnPrimary_whenListWithoutHeader_thenReadsFromReplica() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    public void testGivenPersonOnlyOnPrimary_whenListWithReadYourWritesHeader_thenReadsFromPrimary() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/").header(ReadYourWritesInterceptor.HEADER, "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
+    @Test
+    public void testGivenPersonOnlyOnPrimary_whenFindByIdWithoutHeader_thenCacheFillReadsFromPrimary() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/{id}", person.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("gsouza@gmail.com"));
+    }
+
+}
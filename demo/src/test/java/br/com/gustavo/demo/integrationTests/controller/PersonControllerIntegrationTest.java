@@ -181,7 +181,7 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationTest {
                         .body()
                             .asString();
 
-        Person people[] = mapper.readValue(content, Person[].class);
+        Person people[] = mapper.treeToValue(mapper.readTree(content).get("content"), Person[].class);
         List<Person> personList = Arrays.asList(people);
 
         Person foundPersonOne = personList.get(0);
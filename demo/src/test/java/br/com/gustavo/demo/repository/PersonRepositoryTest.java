@@ -6,12 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import br.com.gustavo.demo.entity.Person;
 
@@ -131,4 +133,140 @@ public class PersonRepositoryTest {
         assertEquals(lastName, savedPerson.getLastName());
     }
     
+    @DisplayName("Test Given People When Find By Id Greater Than Then Return Next Page")
+    @Test
+    public void testGivenPeople_whenFindByIdGreaterThan_thenReturnNextPage() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        Person person3 = new Person("Maria", "Silva", "maria@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+        repository.save(person3);
+
+        // When
+        List<Person> page = repository.findByIdGreaterThanOrderByIdAsc(person.getId(), Limit.of(1));
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals(person2.getId(), page.get(0).getId());
+    }
+    
+    @DisplayName("Test Given People When Find Summaries By Id Greater Than Then Return Summary Page")
+    @Test
+    public void testGivenPeople_whenFindSummariesByIdGreaterThan_thenReturnSummaryPage() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        Person person3 = new Person("Maria", "Silva", "maria@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+        repository.save(person3);
+
+        // When
+        List<PersonSummary> page = repository.findSummariesByIdGreaterThan(person.getId(), Limit.of(1));
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals(new PersonSummary(person2.getId(), "Duda", "Santos", "duda@gmail.com"), page.get(0));
+    }
+    
+    @DisplayName("Test Given People When Find By First Name Prefix Then Return Names Ordered")
+    @Test
+    public void testGivenPeople_whenFindByFirstNamePrefix_thenReturnNamesOrdered() {
+        // Given
+        Person person2 = new Person("Gustavo", "Almeida", "galmeida@gmail.com", "São Paulo - Brasil", "Male");
+        Person person3 = new Person("Maria", "Silva", "maria@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+        repository.save(person3);
+
+        // When
+        List<PersonName> byFirstName = repository.findByFirstNameStartingWithOrderByFirstNameAscLastNameAsc("Gus", Limit.of(10));
+        List<PersonName> byFullName = repository.findByFirstNameAndLastNameStartingWithOrderByLastNameAsc("Gustavo", "Al", Limit.of(10));
+
+        // Then
+        assertEquals(List.of("Almeida", person.getLastName()), byFirstName.stream().map(PersonName::lastName).toList());
+        assertEquals(List.of(new PersonName(person2.getId(), "Gustavo", "Almeida")), byFullName);
+    }
+    
+    @DisplayName("Test Given People When Stream All Then Return People Ordered By Id")
+    @Test
+    public void testGivenPeople_whenStreamAll_thenReturnPeopleOrderedById() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+
+        // When
+        List<Long> ids;
+        try (Stream<Person> people = repository.streamAll()) {
+            ids = people.map(Person::getId).toList();
+        }
+
+        // Then
+        assertEquals(List.of(person.getId(), person2.getId()), ids);
+    }
+    
+    @DisplayName("Test Given Emails When Find Existing Emails Then Return Only Saved Emails")
+    @Test
+    public void testGivenEmails_whenFindExistingEmails_thenReturnOnlySavedEmails() {
+        // Given
+        repository.save(person);
+
+        // When
+        List<String> emails = repository.findExistingEmails(List.of("gsouza@gmail.com", "duda@gmail.com"));
+
+        // Then
+        assertEquals(List.of("gsouza@gmail.com"), emails);
+    }
+    
+    @DisplayName("Test Given Person When Delete Person By Id Then Return Deleted Rows")
+    @Test
+    public void testGivenPerson_whenDeletePersonById_thenReturnDeletedRows() {
+        // Given
+        repository.save(person);
+
+        // When
+        int deleted = repository.deletePersonById(person.getId());
+        int deletedAgain = repository.deletePersonById(person.getId());
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(0, deletedAgain);
+        assertTrue(repository.findById(person.getId()).isEmpty());
+    }
+    
+    @DisplayName("Test Given People When Lock Existing Ids Then Return Only Stored Ids")
+    @Test
+    public void testGivenPeople_whenLockExistingIds_thenReturnOnlyStoredIds() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+
+        // When
+        List<Long> existing = repository.lockExistingIds(List.of(person.getId(), person2.getId(), 999999L));
+
+        // Then
+        assertEquals(2, existing.size());
+        assertTrue(existing.containsAll(List.of(person.getId(), person2.getId())));
+    }
+    
+    @DisplayName("Test Given People When Delete All By Id In Then Remove Only Given Ids")
+    @Test
+    public void testGivenPeople_whenDeleteAllByIdIn_thenRemoveOnlyGivenIds() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        Person person3 = new Person("Maria", "Silva", "maria@gmail.com", "São Paulo - Brasil", "Female");
+        repository.save(person);
+        repository.save(person2);
+        repository.save(person3);
+
+        // When
+        int deleted = repository.deleteAllByIdIn(List.of(person.getId(), person3.getId(), 999999L));
+
+        // Then
+        assertEquals(2, deleted);
+        assertEquals(1, repository.count());
+    }
+    
 }
\ No newline at end of file
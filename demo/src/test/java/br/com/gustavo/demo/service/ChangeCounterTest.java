@@ -0,0 +1,49 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ChangeCounterTest {
+
+    private final ChangeCounter changeCounter = new ChangeCounter();
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testGivenNoTransaction_whenMarkChanged_thenChangeETagImmediately() {
+        // Given
+        String etag = changeCounter.etag();
+
+        // When
+        changeCounter.markChanged();
+
+        // Then
+        assertNotEquals(etag, changeCounter.etag());
+    }
+
+    @Test
+    public void testGivenTransaction_whenMarkChanged_thenChangeETagOnlyAfterCommit() {
+        // Given
+        String etag = changeCounter.etag();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        changeCounter.markChanged();
+
+        // Then
+        assertEquals(etag, changeCounter.etag());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNotEquals(etag, changeCounter.etag());
+    }
+
+}
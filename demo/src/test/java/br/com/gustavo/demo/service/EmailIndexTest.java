@@ -0,0 +1,66 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.gustavo.demo.repository.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailIndexTest {
+
+    @Mock
+    private PersonRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private EmailIndex emailIndex = new EmailIndex(1000, 0.01);
+
+    @BeforeEach
+    public void setup() {
+        when(repository.streamAllEmails()).thenReturn(Stream.of("gsouza@gmail.com", "duda@gmail.com"));
+        emailIndex.load();
+    }
+
+    @Test
+    public void testGivenLoadedIndex_whenMightContain_thenFindSavedEmailsIgnoringCase() {
+        // When / Then
+        assertTrue(emailIndex.isReady());
+        assertTrue(emailIndex.mightContain("gsouza@gmail.com"));
+        assertTrue(emailIndex.mightContain("Duda@Gmail.com"));
+    }
+
+    @Test
+    public void testGivenLoadedIndex_whenAddEmail_thenMightContainIt() {
+        // When
+        emailIndex.add("maria@gmail.com");
+
+        // Then
+        assertTrue(emailIndex.mightContain("maria@gmail.com"));
+    }
+
+    @Test
+    public void testGivenUnknownEmails_whenMightContain_thenMostAreDefinitelyAbsent() {
+        // When
+        long falsePositives = IntStream.range(0, 1000)
+            .filter(i -> emailIndex.mightContain("pessoa" + i + "@gmail.com"))
+            .count();
+
+        // Then
+        assertFalse(falsePositives > 50);
+    }
+
+}
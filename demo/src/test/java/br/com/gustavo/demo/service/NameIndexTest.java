@@ -0,0 +1,102 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class NameIndexTest {
+
+    @Mock
+    private PersonRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private NameIndex nameIndex;
+
+    @BeforeEach
+    public void setup() {
+        when(repository.streamAllNames()).thenReturn(Stream.of(
+            new PersonName(1L, "Gustavo", "Souza"),
+            new PersonName(2L, "Gustavo", "Almeida"),
+            new PersonName(3L, "Guilherme", "Costa"),
+            new PersonName(4L, "João", "Silva")));
+        nameIndex.load();
+    }
+
+    @Test
+    public void testGivenLoadedIndex_whenSearchPrefix_thenReturnMatchesOrderedByName() {
+        // When
+        List<PersonName> matches = nameIndex.search("gus", 10);
+
+        // Then
+        assertTrue(nameIndex.isReady());
+        assertEquals(List.of(2L, 1L), matches.stream().map(PersonName::id).toList());
+    }
+
+    @Test
+    public void testGivenLoadedIndex_whenSearchFullNamePrefixWithCaseAndAccents_thenMatch() {
+        // When / Then
+        assertEquals(List.of(1L), nameIndex.search("  GUSTAVO   so", 10).stream().map(PersonName::id).toList());
+        assertEquals(List.of(4L), nameIndex.search("joao", 10).stream().map(PersonName::id).toList());
+        assertEquals(List.of(4L), nameIndex.search("Joã", 10).stream().map(PersonName::id).toList());
+    }
+
+    @Test
+    public void testGivenLimit_whenSearch_thenReturnAtMostLimitMatches() {
+        // When
+        List<PersonName> matches = nameIndex.search("gu", 2);
+
+        // Then
+        assertEquals(List.of(3L, 2L), matches.stream().map(PersonName::id).toList());
+    }
+
+    @Test
+    public void testGivenRenamedPerson_whenPut_thenReplaceOldName() {
+        // Given
+        Person renamed = new Person("Leonardo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        renamed.setId(1L);
+
+        // When
+        nameIndex.put(renamed);
+
+        // Then
+        assertEquals(List.of(2L), nameIndex.search("gustavo", 10).stream().map(PersonName::id).toList());
+        assertEquals(List.of(1L), nameIndex.search("leo", 10).stream().map(PersonName::id).toList());
+        assertEquals(4, nameIndex.size());
+    }
+
+    @Test
+    public void testGivenDeletedPerson_whenRemove_thenNoLongerMatch() {
+        // When
+        nameIndex.remove(1L);
+
+        // Then
+        assertEquals(List.of(2L), nameIndex.search("gustavo", 10).stream().map(PersonName::id).toList());
+        assertEquals(3, nameIndex.size());
+    }
+
+    @Test
+    public void testGivenBlankQuery_whenSearch_thenReturnEmptyList() {
+        // When / Then
+        assertTrue(nameIndex.search("  ", 10).isEmpty());
+    }
+
+}
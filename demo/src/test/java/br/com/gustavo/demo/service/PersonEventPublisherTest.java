@@ -0,0 +1,90 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.service.PersonEvent.Type;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonEventPublisherTest {
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @InjectMocks
+    private PersonEventPublisher events;
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testGivenNoTransaction_whenDeleted_thenPublishImmediately() {
+        // When
+        events.deleted(1L);
+
+        // Then
+        ArgumentCaptor<PersonEvent> event = ArgumentCaptor.forClass(PersonEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertEquals(Type.DELETED, event.getValue().type());
+        assertEquals(1L, event.getValue().id());
+        assertNull(event.getValue().person());
+    }
+
+    @Test
+    public void testGivenTransaction_whenCreatedAndUpdated_thenPublishInOrderOnlyAfterCommit() {
+        // Given
+        Person person = new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        events.created(person);
+        events.updated(person);
+
+        // Then
+        verify(publisher, never()).publishEvent(any(Object.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        ArgumentCaptor<PersonEvent> published = ArgumentCaptor.forClass(PersonEvent.class);
+        verify(publisher, times(2)).publishEvent(published.capture());
+        assertEquals(Type.CREATED, published.getAllValues().get(0).type());
+        assertEquals(Type.UPDATED, published.getAllValues().get(1).type());
+        assertEquals(person, published.getAllValues().get(1).person());
+        assertEquals(published.getAllValues().get(0).sequence() + 1, published.getAllValues().get(1).sequence());
+    }
+
+    @Test
+    public void testGivenRolledBackTransaction_whenCreated_thenNeverPublish() {
+        // Given
+        Person person = new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        events.created(person);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(publisher, never()).publishEvent(any(Object.class));
+    }
+
+}
@@ -0,0 +1,186 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.InvalidCsvException;
+import br.com.gustavo.demo.exception.TooManyRequestsException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonImportServiceTest {
+
+    @Mock
+    private PersonService service;
+
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    // Uma importação por vez, para o teste de limite conseguir ocupar a única vaga
+    private PersonImportService importService = new PersonImportService(1, Duration.ofSeconds(3));
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(importService, "service", service);
+        ReflectionTestUtils.setField(importService, "validator", validator);
+        importService.start();
+    }
+
+    @AfterEach
+    public void stop() {
+        importService.shutdown();
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Simula o banco: todas as pessoas recebidas são gravadas, exceto o e-mail já cadastrado
+    @SuppressWarnings("unchecked")
+    private void givenDatabaseWithEmail(String existingEmail) {
+        when(service.saveValidated(anyList())).thenAnswer((invocation) -> {
+            List<Person> people = invocation.getArgument(0);
+            return IntStream.range(0, people.size())
+                .mapToObj(i -> people.get(i).getEmail().equals(existingEmail)
+                    ? BatchItemResult.conflict(i, people.get(i))
+                    : BatchItemResult.created(i, people.get(i)))
+                .toList();
+        });
+    }
+
+    @Test
+    public void testGivenCsvFile_whenImportCsv_thenReturnSummaryWithRejectedRows() throws Exception {
+        // Given
+        givenDatabaseWithEmail("duda@gmail.com");
+        String content = """
+            firstName,lastName,email,address,gender
+            Gustavo,Souza,gsouza@gmail.com,"Rua A, 10 - São Paulo",Male
+            Ana,S,ana,São Paulo,Female
+            Duda,Santos,duda@gmail.com,São Paulo - Brasil,Female
+            Maria,Silva,maria@gmail.com
+            """;
+
+        // When
+        ImportSummary summary = importService.importCsv(csv(content));
+
+        // Then
+        assertEquals(4, summary.totalRows());
+        assertEquals(1, summary.imported());
+        assertEquals(3, summary.rejected());
+        assertEquals(List.of(3L, 4L, 5L), summary.rejections().stream().map(ImportSummary.RejectedRow::line).toList());
+    }
+
+    @Test
+    public void testGivenManyRows_whenImportCsv_thenImportAllInChunks() throws Exception {
+        // Given
+        givenDatabaseWithEmail(null);
+        StringBuilder content = new StringBuilder("email,firstName,lastName,address,gender\n");
+        int rows = PersonImportService.IMPORT_CHUNK_SIZE * 3 + 7;
+        for (int i = 0; i < rows; i++) {
+            content.append(String.format("pessoa%d@gmail.com,Pessoa,Numero %d,São Paulo,Female\n", i, i));
+        }
+
+        // When
+        ImportSummary summary = importService.importCsv(csv(content.toString()));
+
+        // Then
+        assertEquals(rows, summary.totalRows());
+        assertEquals(rows, summary.imported());
+        assertEquals(0, summary.rejected());
+    }
+
+    @Test
+    public void testGivenCsvWithUtf8Bom_whenImportCsv_thenMatchHeaderAndImport() throws Exception {
+        // Given
+        givenDatabaseWithEmail(null);
+        String content = "\uFEFFfirstName,lastName,email,address,gender\nGustavo,Souza,gsouza@gmail.com,São Paulo,Male\n";
+
+        // When
+        ImportSummary summary = importService.importCsv(csv(content));
+
+        // Then
+        assertEquals(1, summary.imported());
+        assertEquals(0, summary.rejected());
+    }
+
+    @Test
+    public void testGivenInvalidHeader_whenImportCsv_thenThrowInvalidCsvException() {
+        // Given
+        String content = "nome,email\nGustavo,gsouza@gmail.com\n";
+
+        // When / Then
+        assertThrows(InvalidCsvException.class, () -> importService.importCsv(csv(content)));
+        verify(service, never()).saveValidated(anyList());
+    }
+
+    @Test
+    public void testGivenImportRunning_whenMaxConcurrentReached_thenThrowTooManyRequests() throws Exception {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(service.saveValidated(anyList())).thenAnswer((invocation) -> {
+            writing.countDown();
+            release.await();
+            List<Person> people = invocation.getArgument(0);
+            return IntStream.range(0, people.size()).mapToObj(i -> BatchItemResult.created(i, people.get(i))).toList();
+        });
+        String content = "firstName,lastName,email,address,gender\nGustavo,Souza,gsouza@gmail.com,São Paulo,Male\n";
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<ImportSummary> first = caller.submit(() -> importService.importCsv(csv(content)));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+            // When
+            TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> importService.importCsv(csv(content)));
+
+            // Then
+            assertEquals(3, exception.getRetryAfterSeconds());
+            release.countDown();
+            assertEquals(1, first.get(5, TimeUnit.SECONDS).imported());
+            assertEquals(1, importService.importCsv(csv(content)).imported());
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGivenDatabaseFailure_whenImportCsv_thenPropagateException() {
+        // Given
+        when(service.saveValidated(anyList())).thenThrow(new IllegalStateException("banco indisponível"));
+        String content = "firstName,lastName,email,address,gender\nGustavo,Souza,gsouza@gmail.com,São Paulo,Male\n";
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> importService.importCsv(csv(content)));
+
+        // Then
+        assertEquals("banco indisponível", exception.getMessage());
+    }
+
+}
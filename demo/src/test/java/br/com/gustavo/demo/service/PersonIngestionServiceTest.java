@@ -0,0 +1,210 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonIngestionServiceTest {
+
+    @Mock
+    private PersonService service;
+
+    // Fila de 3, lotes de até 10 e espera de 1 minuto: o lote só é gravado antes disso no desligamento
+    @InjectMocks
+    private PersonIngestionService ingestionService = new PersonIngestionService(3, 10, Duration.ofMinutes(1), Duration.ofHours(1), 1000, Duration.ofSeconds(5), Duration.ofSeconds(3));
+
+    @BeforeEach
+    public void start() {
+        ingestionService.start();
+    }
+
+    @AfterEach
+    public void stop() throws InterruptedException {
+        ingestionService.shutdown();
+    }
+
+    private static Person person(String email) {
+        return new Person("Gustavo", "Souza", email, "São Paulo - Brasil", "Male");
+    }
+
+    // Simula o banco: grava todos com ids sequenciais, exceto o e-mail já cadastrado
+    @SuppressWarnings("unchecked")
+    private void givenDatabaseWithEmail(String existingEmail) {
+        when(service.saveValidated(anyList())).thenAnswer((invocation) -> {
+            List<Person> people = invocation.getArgument(0);
+            return IntStream.range(0, people.size())
+                .mapToObj(i -> {
+                    Person person = people.get(i);
+                    if (person.getEmail().equals(existingEmail)) {
+                        return BatchItemResult.conflict(i, person);
+                    }
+                    person.setId(100L + i);
+                    return BatchItemResult.created(i, person);
+                })
+                .toList();
+        });
+    }
+
+    @Test
+    public void testGivenQueuedPeople_whenShutdown_thenFlushAllInOneBatchAndReportEachResult() throws Exception {
+        // Given
+        givenDatabaseWithEmail("duda@gmail.com");
+        IngestStatus first = ingestionService.submit(person("gsouza@gmail.com"));
+        IngestStatus second = ingestionService.submit(person("duda@gmail.com"));
+
+        // When
+        ingestionService.shutdown();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Person>> batch = ArgumentCaptor.forClass(List.class);
+        verify(service).saveValidated(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertEquals(IngestStatus.Status.PENDING, first.status());
+        assertEquals(IngestStatus.Status.CREATED, ingestionService.status(first.trackingId()).status());
+        assertEquals(100L, ingestionService.status(first.trackingId()).id());
+        assertEquals(IngestStatus.Status.CONFLICT, ingestionService.status(second.trackingId()).status());
+        assertEquals("O e-mail duda@gmail.com já está cadastrado", ingestionService.status(second.trackingId()).message());
+    }
+
+    @Test
+    public void testGivenFullBatch_whenSubmitting_thenFlushWithoutWaitingForMaxDelay() throws Exception {
+        // Given
+        PersonIngestionService smallBatches = new PersonIngestionService(10, 2, Duration.ofMinutes(1), Duration.ofHours(1), 1000, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(smallBatches, "service", service);
+        givenDatabaseWithEmail(null);
+        smallBatches.start();
+        try {
+            // When
+            IngestStatus first = smallBatches.submit(person("gsouza@gmail.com"));
+            smallBatches.submit(person("duda@gmail.com"));
+
+            // Then
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(5))).saveValidated(anyList());
+            assertEquals(IngestStatus.Status.CREATED, smallBatches.status(first.trackingId()).status());
+        } finally {
+            smallBatches.shutdown();
+        }
+    }
+
+    @Test
+    public void testGivenBusyFlusherAndFullQueue_whenSubmit_thenThrowServiceOverloaded() throws Exception {
+        // Given
+        PersonIngestionService tinyQueue = new PersonIngestionService(2, 1, Duration.ZERO, Duration.ofHours(1), 1000, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(tinyQueue, "service", service);
+        CountDownLatch database = new CountDownLatch(1);
+        when(service.saveValidated(anyList())).thenAnswer((invocation) -> {
+            database.await();
+            return List.of(BatchItemResult.created(0, invocation.<List<Person>>getArgument(0).get(0)));
+        });
+        tinyQueue.start();
+        try {
+            // When / Then
+            // A thread de gravação segura no máximo um cadastro; com 2 de capacidade na fila o quarto nunca cabe
+            ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class, () -> {
+                for (int i = 0; i < 4; i++) {
+                    tinyQueue.submit(person("pessoa" + i + "@gmail.com"));
+                }
+            });
+            assertEquals("Fila de cadastros cheia, tente novamente em 3 s", exception.getMessage());
+            assertEquals(3, exception.getRetryAfterSeconds());
+        } finally {
+            database.countDown();
+            tinyQueue.shutdown();
+        }
+    }
+
+    @Test
+    public void testGivenDatabaseFailure_whenFlushing_thenReportFailed() throws Exception {
+        // Given
+        when(service.saveValidated(anyList())).thenThrow(new DataAccessResourceFailureException("banco fora"));
+        IngestStatus status = ingestionService.submit(person("gsouza@gmail.com"));
+
+        // When
+        ingestionService.shutdown();
+
+        // Then
+        assertEquals(IngestStatus.Status.FAILED, ingestionService.status(status.trackingId()).status());
+        assertEquals("Falha ao gravar, envie o cadastro novamente", ingestionService.status(status.trackingId()).message());
+    }
+
+    @Test
+    public void testGivenUnknownTrackingId_whenStatus_thenThrowEntityNotFound() {
+        // When / Then
+        assertThrows(EntityNotFoundException.class, () -> ingestionService.status("desconhecido"));
+    }
+
+    @Test
+    public void testGivenStoppedService_whenSubmit_thenThrowServiceOverloaded() throws Exception {
+        // Given
+        ingestionService.shutdown();
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class, () -> ingestionService.submit(person("gsouza@gmail.com")));
+    }
+
+    @Test
+    public void testGivenConcurrentSubmits_whenShutdown_thenEveryAcceptedPersonIsFlushed() throws Exception {
+        // Given
+        PersonIngestionService busy = new PersonIngestionService(10000, 50, Duration.ZERO, Duration.ofHours(1), 100000, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(busy, "service", service);
+        givenDatabaseWithEmail(null);
+        busy.start();
+        List<IngestStatus> accepted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch submitting = new CountDownLatch(4);
+        List<Thread> clients = IntStream.range(0, 4)
+            .mapToObj((n) -> Thread.ofPlatform().start(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        accepted.add(busy.submit(person("pessoa" + n + "-" + i + "@gmail.com")));
+                        if (i == 0) {
+                            submitting.countDown();
+                        }
+                    }
+                } catch (ServiceOverloadedException e) {
+                    // Fila fechada pelo desligamento
+                }
+            }))
+            .toList();
+        submitting.await();
+
+        // When
+        busy.shutdown();
+        for (Thread client : clients) {
+            client.join();
+        }
+
+        // Then
+        for (IngestStatus status : accepted) {
+            assertEquals(IngestStatus.Status.CREATED, busy.status(status.trackingId()).status());
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import br.com.gustavo.demo.config.CacheConfig;
+import br.com.gustavo.demo.config.CoalescingCaffeineCache;
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.repository.PersonRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+
+// Sobe só o PersonService com o CacheConfig para verificar que o proxy de cache evita a consulta ao repositório
+@SpringJUnitConfig({ CacheConfig.class, PersonService.class })
+public class PersonServiceCacheTest {
+
+    @Autowired
+    private PersonService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PersonRepository repository;
+
+    @MockBean
+    private PersonBatchWriter batchWriter;
+
+    @MockBean
+    private Validator validator;
+
+    @MockBean
+    private EmailIndex emailIndex;
+
+    @MockBean
+    private ChangeCounter changeCounter;
+
+    @MockBean
+    private NameIndex nameIndex;
+
+    @MockBean
+    private PersonEventPublisher events;
+
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    private Person person;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CacheConfig.PEOPLE_CACHE).clear();
+        this.person = new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        this.person.setId(1L);
+    }
+
+    @Test
+    public void testGivenCachedPerson_whenFindById_thenSkipRepository() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        service.findById(1L);
+
+        // When
+        Person cachedPerson = service.findById(1L);
+
+        // Then
+        assertSame(person, cachedPerson);
+        verify(repository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testGivenCachedPerson_whenUpdate_thenEvictAndReloadFromRepository() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        when(repository.save(person)).thenReturn(person);
+        service.findById(1L);
+
+        // When
+        service.update(1L, new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - Brasil", "Male"), null);
+        Person foundPerson = service.findById(1L);
+
+        // Then
+        assertEquals("Oliveira", foundPerson.getLastName());
+        verify(repository, times(3)).findById(1L);
+    }
+
+    @Test
+    public void testGivenCachedPerson_whenDeleteById_thenEvictFromCache() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        when(repository.deletePersonById(1L)).thenReturn(1);
+        service.findById(1L);
+
+        // When
+        service.deleteById(1L);
+
+        // Then
+        assertEquals(null, cacheManager.getCache(CacheConfig.PEOPLE_CACHE).get(1L));
+    }
+
+    @Test
+    public void testGivenCachedPerson_whenFindVersion_thenReadVersionFromCache() {
+        // Given
+        person.setVersion(5L);
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        service.findById(1L);
+
+        // When
+        Long version = service.findVersion(1L);
+
+        // Then
+        assertEquals(5L, version);
+        verify(repository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    public void testGivenNotCachedPerson_whenFindVersion_thenQueryOnlyVersion() {
+        // Given
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+        // When
+        Long version = service.findVersion(1L);
+
+        // Then
+        assertEquals(7L, version);
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testGivenConcurrentMisses_whenFindById_thenRepositoryIsQueriedOnce() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(person);
+        });
+        CoalescingCaffeineCache cache = (CoalescingCaffeineCache) cacheManager.getCache(CacheConfig.PEOPLE_CACHE);
+        long coalescedBefore = cache.getCoalescedCount();
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Person>> lookups = new ArrayList<>();
+            lookups.add(executor.submit(() -> service.findById(1L)));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 4; i++) {
+                lookups.add(executor.submit(() -> service.findById(1L)));
+            }
+            while (cache.getCoalescedCount() - coalescedBefore < 4) {
+                Thread.sleep(5);
+            }
+
+            // When
+            release.countDown();
+
+            // Then
+            for (Future<Person> lookup : lookups) {
+                assertSame(person, lookup.get(5, TimeUnit.SECONDS));
+            }
+            verify(repository, times(1)).findById(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGivenMissingPerson_whenFindById_thenThrowEntityNotFoundAndCacheNothing() {
+        // Given
+        when(repository.findById(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(EntityNotFoundException.class, () -> service.findById(99L));
+        assertEquals(null, cacheManager.getCache(CacheConfig.PEOPLE_CACHE).get(99L));
+    }
+
+}
@@ -0,0 +1,96 @@
+package br.com.gustavo.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import br.com.gustavo.demo.config.CacheConfig;
+import br.com.gustavo.demo.config.MetricsConfig;
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.repository.PersonRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+
+// Sobe o PersonService com o cache e o timer person.service para verificar o que é medido
+@SpringJUnitConfig({ CacheConfig.class, MetricsConfig.class, PersonService.class, SimpleMeterRegistry.class })
+public class PersonServiceMetricsTest {
+
+    @Autowired
+    private PersonService service;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PersonRepository repository;
+
+    @MockBean
+    private PersonBatchWriter batchWriter;
+
+    @MockBean
+    private Validator validator;
+
+    @MockBean
+    private EmailIndex emailIndex;
+
+    @MockBean
+    private ChangeCounter changeCounter;
+
+    @MockBean
+    private NameIndex nameIndex;
+
+    @MockBean
+    private PersonEventPublisher events;
+
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(CacheConfig.PEOPLE_CACHE).clear();
+        meterRegistry.clear();
+    }
+
+    @Test
+    public void testGivenCachedPerson_whenFindByIdTwice_thenRecordOnlyTheRepositoryCall() {
+        // Given
+        Person person = new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+
+        // When
+        service.findById(1L);
+        service.findById(1L);
+
+        // Then
+        assertEquals(1, meterRegistry.get(MetricsConfig.SERVICE_TIMER).tag("method", "findById").tag("exception", "none").timer().count());
+    }
+
+    @Test
+    public void testGivenNotExistsPerson_whenFindById_thenRecordExceptionTag() {
+        // Given
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(EntityNotFoundException.class, () -> service.findById(1L));
+
+        // Then
+        assertEquals(1, meterRegistry.get(MetricsConfig.SERVICE_TIMER).tag("method", "findById").tag("exception", "EntityNotFoundException").timer().count());
+    }
+
+}
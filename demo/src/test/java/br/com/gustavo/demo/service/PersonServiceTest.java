@@ -3,25 +3,42 @@ package br.com.gustavo.demo.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import br.com.gustavo.demo.entity.Person;
 import br.com.gustavo.demo.exception.EmailUniqueValidationException;
+import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.repository.PersonName;
 import br.com.gustavo.demo.repository.PersonRepository;
+import br.com.gustavo.demo.repository.PersonSummary;
+import br.com.gustavo.demo.service.BatchItemResult.Status;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 @ExtendWith(MockitoExtension.class)
 public class PersonServiceTest {
@@ -29,6 +46,27 @@ public class PersonServiceTest {
     @Mock
     private PersonRepository repository;
 
+    @Mock
+    private PersonBatchWriter batchWriter;
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    @Mock
+    private ChangeCounter changeCounter;
+
+    @Mock
+    private NameIndex nameIndex;
+
+    @Mock
+    private PersonEventPublisher events;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     // Cria a instancia e injeta os mocks necessários
     @InjectMocks
     private PersonService service;
@@ -51,6 +89,7 @@ public class PersonServiceTest {
         // Then
         assertNotNull(savedPerson);
         assertEquals("Gustavo", savedPerson.getFirstName());
+        verify(events, times(1)).created(person);
     }
         
     @Test
@@ -73,17 +112,143 @@ public class PersonServiceTest {
     }
         
     @Test
-    public void testGivenPersonList_whenFindAllPerson_thenReturnPersonList() {
+    public void testGivenMixedBatch_whenSaveAll_thenReturnResultPerItem() {
         // Given
-        Person person2 = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
-        when(repository.findAll()).thenReturn(List.of(person, person2));
+        Person invalid = new Person("Ana", "S", "ana", "São Paulo - Brasil", "Female");
+        Person repeated = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        Person existing = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        when(emailIndex.mightContain(anyString())).thenReturn(true);
+        when(repository.findExistingEmails(List.of("gsouza@gmail.com", "duda@gmail.com"))).thenReturn(List.of("duda@gmail.com"));
+        when(batchWriter.insert(List.of(person))).thenAnswer((invocation) -> {
+            person.setId(1L);
+            return List.of(person);
+        });
+
+        // When
+        List<BatchItemResult> results = service.saveAll(List.of(person, invalid, repeated, existing));
+
+        // Then
+        assertEquals(4, results.size());
+        assertEquals(Status.CREATED, results.get(0).status());
+        assertEquals(1L, results.get(0).id());
+        assertEquals(Status.INVALID, results.get(1).status());
+        assertEquals(Status.CONFLICT, results.get(2).status());
+        assertEquals(Status.CONFLICT, results.get(3).status());
+        verify(events, times(1)).created(any());
+        verify(events, times(1)).created(person);
+    }
+        
+    @Test
+    public void testGivenConcurrentDuplicate_whenSaveAll_thenRetryItemByItem() {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        when(batchWriter.insert(List.of(person, person2))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(batchWriter.insert(List.of(person))).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(batchWriter.insert(List.of(person2))).thenReturn(List.of(person2));
+
+        // When
+        List<BatchItemResult> results = service.saveAll(List.of(person, person2));
+
+        // Then
+        assertEquals(Status.CONFLICT, results.get(0).status());
+        assertEquals(Status.CREATED, results.get(1).status());
+    }
+        
+    @Test
+    public void testGivenOnlyInvalidPeople_whenSaveAll_thenNeverTouchDatabase() {
+        // Given
+        Person invalid = new Person("Ana", "S", "ana", "", "Female");
+
+        // When
+        List<BatchItemResult> results = service.saveAll(List.of(invalid));
+
+        // Then
+        assertEquals(Status.INVALID, results.get(0).status());
+        verify(batchWriter, never()).insert(any());
+    }
+        
+    @Test
+    public void testGivenIndexedEmail_whenSavePerson_thenRejectWithoutInsert() {
+        // Given
+        when(emailIndex.mightContain(person.getEmail())).thenReturn(true);
+        when(repository.existsByEmail(person.getEmail())).thenReturn(true);
+
+        // When
+        EmailUniqueValidationException exception = assertThrows(EmailUniqueValidationException.class, () -> {
+            service.save(person);
+        });
+
+        // Then
+        assertEquals("O e-mail gsouza@gmail.com já está cadastrado", exception.getMessage());
+        verify(repository, never()).save(any());
+    }
+        
+    @Test
+    public void testGivenUnknownEmail_whenSavePerson_thenSkipDuplicateQueryAndIndexEmail() {
+        // Given
+        when(emailIndex.mightContain(person.getEmail())).thenReturn(false);
+        when(repository.save(person)).thenReturn(person);
+
+        // When
+        service.save(person);
+
+        // Then
+        verify(repository, never()).existsByEmail(anyString());
+        verify(emailIndex).add(person.getEmail());
+    }
+        
+    @Test
+    public void testGivenNoCursor_whenFindPage_thenStartFromFirstId() {
+        // Given
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), eq(Limit.of(10)))).thenReturn(List.of(person));
+        
+        // When
+        List<Person> page = service.findPage(null, 10);
+        
+        // Then
+        assertEquals(1, page.size());
+    }
+        
+    @Test
+    public void testGivenNoCursor_whenFindSummaryPage_thenStartFromFirstId() {
+        // Given
+        PersonSummary summary = new PersonSummary(1L, "Gustavo", "Souza", "gsouza@gmail.com");
+        when(repository.findSummariesByIdGreaterThan(eq(0L), eq(Limit.of(10)))).thenReturn(List.of(summary));
         
         // When
-        List<Person> personList = service.findAll();
+        List<PersonSummary> page = service.findSummaryPage(null, 10);
         
         // Then
-        assertNotNull(personList);
-        assertEquals(2, personList.size());
+        assertEquals(List.of(summary), page);
+    }
+        
+    @Test
+    public void testGivenLoadedNameIndex_whenSearch_thenSkipRepository() {
+        // Given
+        PersonName name = new PersonName(1L, "Gustavo", "Souza");
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search("gus", 10)).thenReturn(List.of(name));
+        
+        // When
+        List<PersonName> matches = service.search("gus", 10);
+        
+        // Then
+        assertEquals(List.of(name), matches);
+        verify(repository, never()).findByFirstNameStartingWithOrderByFirstNameAscLastNameAsc(anyString(), any(Limit.class));
+    }
+        
+    @Test
+    public void testGivenNameIndexLoading_whenSearchFullName_thenQueryFirstNameAndLastNamePrefix() {
+        // Given
+        PersonName name = new PersonName(1L, "Gustavo", "Souza");
+        when(nameIndex.isReady()).thenReturn(false);
+        when(repository.findByFirstNameAndLastNameStartingWithOrderByLastNameAsc(eq("Gustavo"), eq("So"), eq(Limit.of(10)))).thenReturn(List.of(name));
+        
+        // When
+        List<PersonName> matches = service.search(" Gustavo So", 10);
+        
+        // Then
+        assertEquals(List.of(name), matches);
     }
         
     @Test
@@ -106,24 +271,129 @@ public class PersonServiceTest {
         when(repository.save(person)).thenReturn(person);
 
         // When
-        Person person = service.update(1L, personWithUpdate);
+        Person person = service.update(1L, personWithUpdate, null);
         
         // Then
         assertNotNull(person);
         assertEquals("Oliveira", person.getLastName());
     }
         
+    @Test
+    public void testGivenPartialPerson_whenPatch_thenChangeOnlySentFields() {
+        // Given
+        Person changes = new Person();
+        changes.setAddress("Rio de Janeiro - Brasil");
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+        when(repository.save(person)).thenReturn(person);
+
+        // When
+        Person patchedPerson = service.patch(1L, changes, null);
+
+        // Then
+        assertEquals("Rio de Janeiro - Brasil", patchedPerson.getAddress());
+        assertEquals("Gustavo", patchedPerson.getFirstName());
+        assertEquals("gsouza@gmail.com", patchedPerson.getEmail());
+        verify(events, times(1)).updated(person);
+    }
+        
+    @Test
+    public void testGivenStaleVersion_whenUpdate_thenThrowPreconditionFailedException() {
+        // Given
+        person.setVersion(3L);
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+
+        // When / Then
+        assertThrows(PreconditionFailedException.class, () -> service.update(1L, person, 2L));
+        verify(repository, never()).save(any());
+        verify(events, never()).updated(any());
+    }
+        
+    @Test
+    public void testGivenInvalidPartialPerson_whenPatch_thenThrowConstraintViolationException() {
+        // Given
+        Person changes = new Person();
+        changes.setFirstName("Gu");
+        when(repository.findById(1L)).thenReturn(Optional.of(person));
+
+        // When / Then
+        assertThrows(ConstraintViolationException.class, () -> service.patch(1L, changes, null));
+        verify(repository, never()).save(any());
+    }
+        
     @Test
     public void testGivenPersonId_whenDeletePersonById_thenDoNothing() {
         // Given
         person.setId(1L);
-        willDoNothing().given(repository).deleteById(person.getId());
+        when(repository.deletePersonById(person.getId())).thenReturn(1);
 
         // When
         service.deleteById(1L);
         
         // Then
-        verify(repository, times(1)).deleteById(1L);
+        verify(repository, times(1)).deletePersonById(1L);
+        verify(repository, never()).findById(anyLong());
+        verify(events, times(1)).deleted(1L);
+    }
+        
+    @Test
+    public void testGivenNotExistsPersonId_whenDeletePersonById_thenThrowEntityNotFoundException() {
+        // Given
+        when(repository.deletePersonById(2L)).thenReturn(0);
+
+        // When
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> service.deleteById(2L));
+        
+        // Then
+        assertEquals("Person com id 2 não encontrado", exception.getMessage());
+        verify(events, never()).deleted(anyLong());
+    }
+        
+    @Test
+    public void testGivenManyIds_whenDeleteAllById_thenDeleteInChunksAndReturnCount() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, PersonService.DELETE_CHUNK_SIZE + 10).boxed().toList();
+        when(batchWriter.delete(anyList())).thenAnswer((invocation) -> List.copyOf(invocation.<List<Long>>getArgument(0)));
+
+        // When
+        int deleted = service.deleteAllById(ids);
+        
+        // Then
+        assertEquals(ids.size(), deleted);
+        verify(batchWriter, times(2)).delete(anyList());
+        verify(batchWriter, never()).deleteExisting(anyList());
+        verify(changeCounter, times(1)).markChanged();
+        verify(events, times(ids.size())).deleted(anyLong());
+    }
+        
+    @Test
+    public void testGivenSomeMissingIds_whenDeleteAllById_thenPublishDeletedOnlyForExistingIds() {
+        // Given
+        when(batchWriter.delete(List.of(1L, 2L, 3L))).thenReturn(null);
+        when(batchWriter.deleteExisting(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+        // When
+        int deleted = service.deleteAllById(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(2, deleted);
+        verify(events).deleted(1L);
+        verify(events).deleted(3L);
+        verify(events, never()).deleted(2L);
+    }
+        
+    @Test
+    public void testGivenOnlyMissingIds_whenDeleteAllById_thenSkipDeleteAndEvents() {
+        // Given
+        when(batchWriter.delete(List.of(8L, 9L))).thenReturn(List.of());
+
+        // When
+        int deleted = service.deleteAllById(List.of(8L, 9L));
+
+        // Then
+        assertEquals(0, deleted);
+        verify(batchWriter, never()).deleteExisting(anyList());
+        verify(changeCounter, never()).markChanged();
+        verify(events, never()).deleted(anyLong());
     }
     
 }
@@ -0,0 +1,138 @@
+package br.com.gustavo.demo.web.controller;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.gustavo.demo.config.AdmissionControl;
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.service.PersonImportService;
+import br.com.gustavo.demo.service.PersonIngestionService;
+import br.com.gustavo.demo.service.PersonService;
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+import br.com.gustavo.demo.web.sse.PersonEventBroadcaster;
+
+// Limite global fixo em 2: leituras usam as 2 vagas, escritas 1 (80%) e lotes 1 (50%, arredondado para no mínimo 1)
+@WebMvcTest(properties = {
+    "app.admission.initial-limit=2",
+    "app.admission.min-limit=2",
+    "app.admission.max-limit=2",
+    "app.admission.retry-after=3s"
+})
+public class PersonControllerAdmissionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdmissionControl admission;
+
+    @MockBean
+    private PersonService service;
+
+    @MockBean
+    private PersonImportService importService;
+
+    @MockBean
+    private PersonIngestionService ingestionService;
+
+    @MockBean
+    private PersonEventBroadcaster eventBroadcaster;
+
+    private AdmissionControl.Permit held;
+
+    private static Person person() {
+        Person person = new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(1L);
+        person.setVersion(0L);
+        return person;
+    }
+
+    @AfterEach
+    public void release() {
+        if (held != null) {
+            admission.release(held, false);
+        }
+    }
+
+    @Test
+    public void testGivenFreeCapacity_whenFindById_thenRequestIsAdmitted() throws Exception {
+        // Given
+        when(service.findById(1L)).thenReturn(person());
+
+        // When / Then
+        mockMvc.perform(get("/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/1")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGivenOneRequestInFlight_whenFindById_thenReadIsStillAdmitted() throws Exception {
+        // Given
+        held = admission.tryAcquire("GET /other", Priority.READ);
+        when(service.findById(1L)).thenReturn(person());
+
+        // When / Then
+        mockMvc.perform(get("/1")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGivenOneRequestInFlight_whenCreateBatch_thenReturn429WithRetryAfter() throws Exception {
+        // Given
+        held = admission.tryAcquire("GET /other", Priority.READ);
+
+        // When / Then
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "3"))
+            .andExpect(jsonPath("$.status").value(429))
+            .andExpect(jsonPath("$.path").value("/batch"));
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    public void testGivenFullCapacity_whenFindById_thenReturn503WithRetryAfter() throws Exception {
+        // Given
+        held = admission.tryAcquire("GET /other", Priority.READ);
+        AdmissionControl.Permit second = admission.tryAcquire("GET /other", Priority.READ);
+
+        // When / Then
+        try {
+            mockMvc.perform(get("/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.status").value(503));
+        } finally {
+            admission.release(second, false);
+        }
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    public void testGivenCapacityReleased_whenCreateBatch_thenRequestIsAdmitted() throws Exception {
+        // Given
+        admission.release(admission.tryAcquire("GET /other", Priority.READ), false);
+        when(service.saveAll(anyList())).thenReturn(List.of());
+
+        // When / Then
+        mockMvc.perform(post("/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isOk());
+        verify(service).saveAll(anyList());
+    }
+
+}
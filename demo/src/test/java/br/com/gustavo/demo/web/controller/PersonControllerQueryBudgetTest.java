@@ -0,0 +1,183 @@
+package br.com.gustavo.demo.web.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.config.CacheConfig;
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.repository.PersonRepository;
+import br.com.gustavo.demo.web.interceptor.QueryBudgetInterceptor;
+
+// Sobe a aplicação inteira com H2 e confere quantos comandos SQL cada endpoint executa por requisição
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+public class PersonControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Person person;
+
+    @BeforeEach
+    public void setup() {
+        repository.deleteAllInBatch();
+        cacheManager.getCache(CacheConfig.PEOPLE_CACHE).clear();
+        this.person = repository.save(new Person("Gustavo", "Souza", "gsouza@gmail.com", "São Paulo - Brasil", "Male"));
+    }
+
+    @Test
+    public void testGivenPersonNotCached_whenFindById_thenExecuteOneQuery() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(get("/{id}", person.getId())).andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenMatchingIfNoneMatchAndPersonNotCached_whenFindById_thenExecuteOnlyVersionQuery() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(get("/{id}", person.getId()).header("If-None-Match", "\"" + person.getVersion() + "\""))
+            .andExpect(status().isNotModified()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenStaleIfNoneMatchAndPersonNotCached_whenFindById_thenExecuteVersionAndEntityQueries() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(get("/{id}", person.getId()).header("If-None-Match", "\"999\""))
+            .andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(2, queryCount(result));
+    }
+
+    @Test
+    public void testGivenPersonCached_whenFindById_thenExecuteNoQuery() throws Exception {
+        // Given
+        mockMvc.perform(get("/{id}", person.getId())).andExpect(status().isOk());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/{id}", person.getId())).andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(0, queryCount(result));
+    }
+
+    @Test
+    public void testGivenPersons_whenFindAll_thenExecuteOneQuery() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(get("/")).andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenPersons_whenFindSummaries_thenExecuteOneQuery() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(get("/summary")).andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenNewPerson_whenCreate_thenExecuteAtMostThreeQueries() throws Exception {
+        // Given
+        Person newPerson = new Person("Leonardo", "Costa", "leonardo@gmail.com", "São Paulo - Brasil", "Male");
+
+        // When
+        MvcResult result = mockMvc.perform(post("/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(newPerson)))
+            .andExpect(status().isCreated()).andReturn();
+
+        // Then
+        assertTrue(queryCount(result) <= 3, "INSERT com sequence e verificação de e-mail: " + queryCount(result));
+    }
+
+    @Test
+    public void testGivenSameEmail_whenUpdate_thenExecuteSelectAndUpdateOnly() throws Exception {
+        // Given
+        Person changes = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "Rio de Janeiro - Brasil", "Male");
+
+        // When
+        MvcResult result = mockMvc.perform(put("/{id}", person.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(changes)))
+            .andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(2, queryCount(result));
+    }
+
+    @Test
+    public void testGivenPersonId_whenDelete_thenExecuteOneQuery() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(delete("/{id}", person.getId())).andExpect(status().isNoContent()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenExistingIds_whenDeleteAll_thenExecuteSingleDelete() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(delete("/").param("ids", person.getId().toString()))
+            .andExpect(status().isOk()).andReturn();
+
+        // Then
+        assertEquals(1, queryCount(result));
+    }
+
+    @Test
+    public void testGivenSomeMissingIds_whenDeleteAll_thenRetryChunkWithSelectForUpdate() throws Exception {
+        // Given / When
+        MvcResult result = mockMvc.perform(delete("/").param("ids", person.getId().toString(), "999999"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.deleted").value(1)).andReturn();
+
+        // Then
+        assertEquals(3, queryCount(result));
+    }
+
+    private static int queryCount(MvcResult result) {
+        return (int) result.getRequest().getAttribute(QueryBudgetInterceptor.QUERY_COUNT_ATTRIBUTE);
+    }
+
+}
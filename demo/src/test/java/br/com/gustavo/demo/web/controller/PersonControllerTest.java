@@ -1,20 +1,37 @@
 package br.com.gustavo.demo.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.Consumer;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,18 +39,37 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 import br.com.gustavo.demo.entity.Person;
 import br.com.gustavo.demo.exception.EntityNotFoundException;
+import br.com.gustavo.demo.exception.PreconditionFailedException;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import br.com.gustavo.demo.repository.PersonName;
+import br.com.gustavo.demo.repository.PersonSummary;
+import br.com.gustavo.demo.service.BatchItemResult;
+import br.com.gustavo.demo.service.ImportSummary;
+import br.com.gustavo.demo.service.IngestStatus;
+import br.com.gustavo.demo.service.PersonImportService;
+import br.com.gustavo.demo.service.PersonIngestionService;
 import br.com.gustavo.demo.service.PersonService;
+import br.com.gustavo.demo.web.sse.PersonEventBroadcaster;
 
 @WebMvcTest
 public class PersonControllerTest {
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
     // MockMvc é uma classe fornecida pelo Spring para simular chamadas HTTP como GET, POST, etc., sem iniciar um servidor real. 
     @Autowired
     private MockMvc mockMvc;
@@ -45,6 +81,15 @@ public class PersonControllerTest {
     @MockBean
     private PersonService service;
 
+    @MockBean
+    private PersonImportService importService;
+
+    @MockBean
+    private PersonIngestionService ingestionService;
+
+    @MockBean
+    private PersonEventBroadcaster eventBroadcaster;
+
     private Person person;
     
     @BeforeEach
@@ -70,13 +115,139 @@ public class PersonControllerTest {
             .andExpect(jsonPath("$.firstName", is(person.getFirstName())));
     }
         
+    @Test
+    public void testGivenRespondAsyncPreference_whenCreate_thenQueuePersonAndReturnStatus202() throws Exception {
+        // Given
+        when(ingestionService.submit(any(Person.class))).thenReturn(IngestStatus.pending("abc-123"));
+
+        // When
+        ResultActions response = mockMvc.perform(post("/")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Prefer", "respond-async")
+            .content(mapper.writeValueAsString(person))
+        );
+
+        // Then
+        response.andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/ingest/abc-123"))
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.trackingId", is("abc-123")))
+            .andExpect(jsonPath("$.status", is("PENDING")));
+        verify(service, never()).save(any(Person.class));
+    }
+
+    @Test
+    public void testGivenRespondAsyncPreferenceAndInvalidPerson_whenCreate_thenReturnStatus400() throws Exception {
+        // Given
+        person.setFirstName("Gu");
+
+        // When / Then
+        mockMvc.perform(post("/")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Prefer", "respond-async")
+            .content(mapper.writeValueAsString(person)))
+            .andExpect(status().isBadRequest());
+        verify(ingestionService, never()).submit(any(Person.class));
+    }
+
+    @Test
+    public void testGivenTrackingId_whenIngestStatus_thenReturnStatusWithStatus200() throws Exception {
+        // Given
+        when(ingestionService.status("abc-123")).thenReturn(new IngestStatus("abc-123", IngestStatus.Status.CREATED, 7L, null));
+
+        // When / Then
+        mockMvc.perform(get("/ingest/abc-123"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status", is("CREATED")))
+            .andExpect(jsonPath("$.id", is(7)));
+    }
+
+    @Test
+    public void testGivenSubscriber_whenEvents_thenStartEventStream() throws Exception {
+        // Given
+        when(eventBroadcaster.subscribe()).thenReturn(new SseEmitter());
+
+        // When / Then
+        mockMvc.perform(get("/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+        verify(eventBroadcaster).subscribe();
+    }
+
+    @Test
+    public void testGivenTooManySubscribers_whenEvents_thenReturnStatus503() throws Exception {
+        // Given
+        when(eventBroadcaster.subscribe()).thenThrow(new ServiceOverloadedException("Limite de assinantes de eventos atingido, tente novamente em 5 s", 5));
+
+        // When / Then
+        mockMvc.perform(get("/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "5"))
+            .andExpect(jsonPath("$.message", is("Limite de assinantes de eventos atingido, tente novamente em 5 s")));
+    }
+
+    @Test
+    public void testGivenPeopleList_whenCreateBatch_thenReturnResultPerItemWithStatus200() throws Exception {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        person.setId(1L);
+        when(service.saveAll(any())).thenReturn(List.of(BatchItemResult.created(0, person), BatchItemResult.conflict(1, person2)));
+
+        // When
+        ResultActions response = mockMvc.perform(post("/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(List.of(person, person2)))
+        );
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(2)))
+            .andExpect(jsonPath("$[0].status", is("CREATED")))
+            .andExpect(jsonPath("$[0].id", is(1)))
+            .andExpect(jsonPath("$[1].status", is("CONFLICT")));
+    }
+        
+    @Test
+    public void testGivenTooManyPeople_whenCreateBatch_thenReturnErrorMessageWithStatus413() throws Exception {
+        // Given
+        List<Person> people = Collections.nCopies(PersonController.MAX_BATCH_SIZE + 1, person);
+
+        // When
+        ResultActions response = mockMvc.perform(post("/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(people))
+        );
+
+        // Then
+        response
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(jsonPath("$.status", is(413)));
+    }
+        
+    @Test
+    public void testGivenCsvFile_whenImport_thenReturnSummaryWithStatus200() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "people.csv", "text/csv", "firstName,lastName,email,address,gender\n".getBytes());
+        when(importService.importCsv(any())).thenReturn(new ImportSummary(2, 1, 1, List.of(new ImportSummary.RejectedRow(3, "Campo(s) inválido(s)", null))));
+
+        // When
+        ResultActions response = mockMvc.perform(multipart("/import").file(file));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", is(1)))
+            .andExpect(jsonPath("$.rejected", is(1)))
+            .andExpect(jsonPath("$.rejections[0].line", is(3)));
+    }
+        
     @Test
     public void testGivenPeopleList_whenFindAll_thenReturnPeopleListWithStatus200() throws Exception {
         // Given
         List<Person> people = new ArrayList<Person>();
         people.add(person);
         people.add(new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female"));
-        when(service.findAll()).thenReturn(people);
+        when(service.findPage(null, PersonController.DEFAULT_PAGE_SIZE)).thenReturn(people);
 
         // When
         ResultActions response = mockMvc.perform(get("/"));
@@ -84,7 +255,117 @@ public class PersonControllerTest {
         // Then
         response.andDo(print())
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.size()", is(people.size())));
+            .andExpect(jsonPath("$.content.size()", is(people.size())))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+        
+    @Test
+    public void testGivenFullPage_whenFindAll_thenReturnNextCursor() throws Exception {
+        // Given
+        person.setId(10L);
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        person2.setId(11L);
+        when(service.findPage(9L, 2)).thenReturn(List.of(person, person2));
+
+        // When
+        ResultActions response = mockMvc.perform(get("/").param("after", "9").param("limit", "2"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.limit", is(2)))
+            .andExpect(jsonPath("$.nextCursor", is(11)));
+    }
+        
+    @Test
+    public void testGivenFullSummaryPage_whenFindSummaries_thenReturnOnlySummaryFieldsAndNextCursor() throws Exception {
+        // Given
+        List<PersonSummary> summaries = List.of(
+            new PersonSummary(10L, "Gustavo", "Oliveira", "gsouza@gmail.com"),
+            new PersonSummary(11L, "Duda", "Santos", "duda@gmail.com"));
+        when(service.findSummaryPage(9L, 2)).thenReturn(summaries);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/summary").param("after", "9").param("limit", "2"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.size()", is(2)))
+            .andExpect(jsonPath("$.content[0].email", is("gsouza@gmail.com")))
+            .andExpect(jsonPath("$.content[0].address").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor", is(11)));
+        verify(service, never()).findPage(any(), anyInt());
+    }
+        
+    @Test
+    public void testGivenQuery_whenSearch_thenReturnMatchingNames() throws Exception {
+        // Given
+        when(service.search("gus", PersonController.DEFAULT_SEARCH_LIMIT)).thenReturn(List.of(new PersonName(1L, "Gustavo", "Oliveira")));
+
+        // When
+        ResultActions response = mockMvc.perform(get("/search").param("q", "gus"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(1)))
+            .andExpect(jsonPath("$[0].id", is(1)))
+            .andExpect(jsonPath("$[0].firstName", is("Gustavo")));
+    }
+        
+    @Test
+    public void testGivenLimitAboveMax_whenSearch_thenClampToMaxSearchLimit() throws Exception {
+        // Given
+        when(service.search("gus", PersonController.MAX_SEARCH_LIMIT)).thenReturn(List.of());
+
+        // When
+        ResultActions response = mockMvc.perform(get("/search").param("q", "gus").param("limit", "1000"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(0)));
+    }
+        
+    @Test
+    public void testGivenLimitAboveMax_whenFindAll_thenClampToMaxPageSize() throws Exception {
+        // Given
+        when(service.findPage(null, PersonController.MAX_PAGE_SIZE)).thenReturn(List.of(person));
+
+        // When
+        ResultActions response = mockMvc.perform(get("/").param("limit", "1000000"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.limit", is(PersonController.MAX_PAGE_SIZE)))
+            .andExpect(jsonPath("$.content.size()", is(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGivenPeople_whenExport_thenStreamNdjsonWithStatus200() throws Exception {
+        // Given
+        Person person2 = new Person("Duda", "Santos", "duda@gmail.com", "São Paulo - Brasil", "Female");
+        doAnswer((invocation) -> {
+            Consumer<Person> action = invocation.getArgument(0);
+            action.accept(person);
+            action.accept(person2);
+            return null;
+        }).when(service).exportAll(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().bytes((mapper.writeValueAsString(person) + "\n" + mapper.writeValueAsString(person2) + "\n").getBytes(StandardCharsets.UTF_8)));
     }
         
     @Test
@@ -104,6 +385,260 @@ public class PersonControllerTest {
             .andExpect(jsonPath("$.email", is(person.getEmail())));
     }
         
+    @Test
+    public void testGivenVersionedPerson_whenFindById_thenReturnVersionAsETag() throws Exception {
+        // Given
+        person.setVersion(2L);
+        when(service.findById(1L)).thenReturn(person);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/{id}", 1L));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"2\""));
+    }
+        
+    @Test
+    public void testGivenMatchingIfNoneMatch_whenFindById_thenReturnStatus304WithoutLoadingPerson() throws Exception {
+        // Given
+        when(service.findVersion(1L)).thenReturn(2L);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/{id}", 1L).header("If-None-Match", "\"2\""));
+
+        // Then
+        response
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        verify(service, never()).findById(1L);
+    }
+        
+    @Test
+    public void testGivenStaleIfNoneMatch_whenFindById_thenReturnPersonWithStatus200() throws Exception {
+        // Given
+        person.setVersion(3L);
+        when(service.findVersion(1L)).thenReturn(3L);
+        when(service.findById(1L)).thenReturn(person);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/{id}", 1L).header("If-None-Match", "\"2\""));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues("ETag", "\"3\""))
+            .andExpect(jsonPath("$.firstName", is(person.getFirstName())));
+        verify(service, times(1)).findById(1L);
+    }
+        
+    @Test
+    public void testGivenJsonETag_whenFindByIdAsCbor_thenReturnCborBodyWithCborETag() throws Exception {
+        // Given
+        person.setVersion(2L);
+        when(service.findVersion(1L)).thenReturn(2L);
+        when(service.findById(1L)).thenReturn(person);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/{id}", 1L).accept(CBOR).header("If-None-Match", "\"2\"")).andReturn();
+
+        // Then
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("\"2-cbor\"", result.getResponse().getHeader("ETag"));
+    }
+        
+    @Test
+    public void testGivenMatchingSmileETag_whenFindByIdAsSmile_thenReturnStatus304() throws Exception {
+        // Given
+        when(service.findVersion(1L)).thenReturn(2L);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/{id}", 1L).accept(SMILE).header("If-None-Match", "\"2-smile\""));
+
+        // Then
+        response
+            .andExpect(status().isNotModified());
+    }
+        
+    @Test
+    public void testGivenAnyAccept_whenFindById_thenReturnJsonAndVaryByAccept() throws Exception {
+        // Given
+        when(service.findById(1L)).thenReturn(person);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/{id}", 1L).accept(MediaType.ALL));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+        
+    @Test
+    public void testGivenSmileAccept_whenFindById_thenReturnSmileBody() throws Exception {
+        // Given
+        when(service.findById(1L)).thenReturn(person);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/{id}", 1L).accept(SMILE)).andReturn();
+
+        // Then
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(SMILE.toString(), result.getResponse().getContentType());
+        Person body = new ObjectMapper(new SmileFactory()).readValue(result.getResponse().getContentAsByteArray(), Person.class);
+        assertEquals(person.getEmail(), body.getEmail());
+    }
+        
+    @Test
+    public void testGivenSmileAccept_whenFindAll_thenReturnSmilePage() throws Exception {
+        // Given
+        when(service.findPage(null, PersonController.DEFAULT_PAGE_SIZE)).thenReturn(List.of(person));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/").accept(SMILE)).andReturn();
+
+        // Then
+        assertEquals(200, result.getResponse().getStatus());
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(person.getFirstName(), page.path("content").get(0).path("firstName").asText());
+    }
+        
+    @Test
+    public void testGivenCborBody_whenSavePerson_thenReturnCborWithStatus201() throws Exception {
+        // Given
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        when(service.save(any(Person.class))).thenAnswer((invocation) -> invocation.getArgument(0));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/")
+            .contentType(CBOR)
+            .accept(CBOR)
+            .content(cbor.writeValueAsBytes(person))
+        ).andReturn();
+
+        // Then
+        assertEquals(201, result.getResponse().getStatus());
+        assertEquals(CBOR.toString(), result.getResponse().getContentType());
+        assertEquals(person.getEmail(), cbor.readValue(result.getResponse().getContentAsByteArray(), Person.class).getEmail());
+    }
+        
+    @Test
+    public void testGivenUnchangedCollection_whenFindAll_thenReturnStatus304WithoutLoadingPage() throws Exception {
+        // Given
+        when(service.collectionTag()).thenReturn("abc-10-1");
+
+        // When
+        ResultActions response = mockMvc.perform(get("/").header("If-None-Match", "\"abc-10-1\""));
+
+        // Then
+        response
+            .andExpect(status().isNotModified());
+        verify(service, never()).findPage(any(), anyInt());
+    }
+        
+    @Test
+    public void testGivenChangedCollection_whenFindAll_thenReturnPageWithETag() throws Exception {
+        // Given
+        when(service.collectionTag()).thenReturn("abc-11-1");
+        when(service.findPage(null, PersonController.DEFAULT_PAGE_SIZE)).thenReturn(List.of(person));
+
+        // When
+        ResultActions response = mockMvc.perform(get("/").header("If-None-Match", "\"abc-10-1\""));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"abc-11-1\""))
+            .andExpect(jsonPath("$.content.size()", is(1)));
+    }
+        
+    @Test
+    public void testGivenJsonCollectionTag_whenFindAllAsSmile_thenReturnPageWithSmileETag() throws Exception {
+        // Given
+        when(service.collectionTag()).thenReturn("abc-11-1");
+        when(service.findPage(null, PersonController.DEFAULT_PAGE_SIZE)).thenReturn(List.of(person));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/").accept(SMILE).header("If-None-Match", "\"abc-11-1\"")).andReturn();
+
+        // Then
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("\"abc-11-1-smile\"", result.getResponse().getHeader("ETag"));
+    }
+        
+    @Test
+    public void testGivenPartialPerson_whenPatch_thenReturnPatchedPersonWithNewETag() throws Exception {
+        // Given
+        person.setVersion(4L);
+        when(service.patch(eq(1L), any(Person.class), eq(3L))).thenReturn(person);
+
+        // When
+        ResultActions response = mockMvc.perform(patch("/{id}", 1L)
+            .header("If-Match", "\"3\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"address\": \"São Paulo - SP\"}")
+        );
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"4\""))
+            .andExpect(jsonPath("$.firstName", is(person.getFirstName())));
+    }
+        
+    @Test
+    public void testGivenCborETagAsIfMatch_whenPatch_thenUseItsVersion() throws Exception {
+        // Given
+        person.setVersion(4L);
+        when(service.patch(eq(1L), any(Person.class), eq(3L))).thenReturn(person);
+
+        // When
+        ResultActions response = mockMvc.perform(patch("/{id}", 1L)
+            .header("If-Match", "\"3-cbor\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"address\": \"São Paulo - SP\"}")
+        );
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"4\""));
+    }
+        
+    @Test
+    public void testGivenStaleIfMatch_whenPatch_thenReturnErrorMessageWithStatus412() throws Exception {
+        // Given
+        when(service.patch(eq(1L), any(Person.class), eq(2L))).thenThrow(new PreconditionFailedException("Person com id 1 foi alterado (versão atual 3)"));
+
+        // When
+        ResultActions response = mockMvc.perform(patch("/{id}", 1L)
+            .header("If-Match", "\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"address\": \"São Paulo - SP\"}")
+        );
+
+        // Then
+        response
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.status", is(412)));
+    }
+        
+    @Test
+    public void testGivenWeakIfMatch_whenPatch_thenReturnErrorMessageWithStatus412() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(patch("/{id}", 1L)
+            .header("If-Match", "W/\"2\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"address\": \"São Paulo - SP\"}")
+        );
+
+        // Then
+        response
+            .andExpect(status().isPreconditionFailed());
+    }
+        
     @Test
     public void testGivenNotExistsPerson_whenFindById_thenReturnErrorMessageWithStatus404() throws Exception {
         // Given
@@ -123,7 +658,7 @@ public class PersonControllerTest {
     public void testGivenUpdatedPerson_whenUpdate_thenReturnUpdatedPersonWithStatus200() throws Exception {
         // Given
         Person updatedPerson = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - SP", "Male");
-        when(service.update(1L, updatedPerson)).thenAnswer((invocation) -> invocation.getArgument(0));
+        when(service.update(1L, updatedPerson, null)).thenAnswer((invocation) -> invocation.getArgument(0));
 
         // When
         ResultActions response = mockMvc.perform(put("/{id}", 1L)
@@ -144,7 +679,7 @@ public class PersonControllerTest {
         // Given
         Person updatedPerson = new Person("Gustavo", "Oliveira", "gsouza@gmail.com", "São Paulo - SP", "Male");
         when(service.findById(1L)).thenThrow(new EntityNotFoundException(String.format("Person com id %d não encontrado", 1L)));
-        when(service.update(1L, updatedPerson)).thenAnswer((invocation) -> invocation.getArgument(1));
+        when(service.update(1L, updatedPerson, null)).thenAnswer((invocation) -> invocation.getArgument(1));
 
         // When
         ResultActions response = mockMvc.perform(put("/{id}", 1L)
@@ -157,6 +692,21 @@ public class PersonControllerTest {
             .andExpect(status().isNotFound());
     }
         
+    @Test
+    public void testGivenIds_whenDeleteAll_thenReturnDeletedCountWithStatus200() throws Exception {
+        // Given
+        when(service.deleteAllById(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        // When
+        ResultActions response = mockMvc.perform(delete("/").param("ids", "1,2,3"));
+
+        // Then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested", is(3)))
+            .andExpect(jsonPath("$.deleted", is(2)));
+    }
+
     @Test
     public void testDeletePerson_whenDelete_thenReturnNoContentWithStatus204() throws Exception {
         // Given
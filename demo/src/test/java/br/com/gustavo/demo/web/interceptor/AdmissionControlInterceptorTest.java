@@ -0,0 +1,68 @@
+package br.com.gustavo.demo.web.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import br.com.gustavo.demo.config.AdaptiveConcurrencyLimit;
+import br.com.gustavo.demo.config.AdmissionControl;
+import br.com.gustavo.demo.web.interceptor.Admission.Priority;
+
+public class AdmissionControlInterceptorTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AdmissionControl admission = new AdmissionControl(
+        () -> new AdaptiveConcurrencyLimit(10, 2, 20, 2.0, 5 * MS, 0.5, 1000), 20, null);
+
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(admission, 1);
+
+    private AdaptiveConcurrencyLimit endpoint;
+
+    @Test
+    public void testGivenRequestShedByApplication_whenAfterCompletion_thenLimitIsUnchanged() {
+        // Given
+        MockHttpServletRequest request = admitted();
+        request.setAttribute(AdmissionControlInterceptor.SHED_ATTRIBUTE, true);
+
+        // When
+        interceptor.afterCompletion(request, response(HttpStatus.SERVICE_UNAVAILABLE), null, null);
+
+        // Then
+        assertEquals(10, endpoint.getLimit());
+        assertEquals(0, endpoint.getInFlight());
+    }
+
+    @Test
+    public void testGiven503FromElsewhere_whenAfterCompletion_thenRecordAsDrop() {
+        // Given
+        MockHttpServletRequest request = admitted();
+
+        // When
+        interceptor.afterCompletion(request, response(HttpStatus.SERVICE_UNAVAILABLE), null, null);
+
+        // Then
+        assertEquals(5, endpoint.getLimit());
+        assertEquals(0, endpoint.getInFlight());
+    }
+
+    private MockHttpServletRequest admitted() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        AdmissionControl.Permit permit = admission.tryAcquire("POST /", Priority.WRITE);
+        endpoint = permit.endpoint();
+        request.setAttribute(AdmissionControlInterceptor.PERMIT_ATTRIBUTE, permit);
+        return request;
+    }
+
+    private static MockHttpServletResponse response(HttpStatus status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status.value());
+        return response;
+    }
+
+}
@@ -0,0 +1,198 @@
+package br.com.gustavo.demo.web.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.gustavo.demo.entity.Person;
+import br.com.gustavo.demo.exception.ServiceOverloadedException;
+import br.com.gustavo.demo.service.PersonEvent;
+import br.com.gustavo.demo.service.PersonEvent.Type;
+
+public class PersonEventBroadcasterTest {
+
+    private PersonEventBroadcaster broadcaster;
+
+    @AfterEach
+    public void stop() throws InterruptedException {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    // Duas threads de envio, sem prazo de envio e heartbeat longo para não interferir nos quadros recebidos
+    private void givenBroadcaster(int bufferSize, int maxSubscribers) {
+        givenBroadcaster(bufferSize, maxSubscribers, 2, Duration.ofHours(1));
+    }
+
+    private void givenBroadcaster(int bufferSize, int maxSubscribers, int dispatchThreads, Duration sendTimeout) {
+        broadcaster = new PersonEventBroadcaster(bufferSize, maxSubscribers, dispatchThreads, sendTimeout, Duration.ofHours(1), Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(broadcaster, "mapper", new ObjectMapper());
+        broadcaster.start();
+    }
+
+    private static PersonEvent created(long sequence) {
+        Person person = new Person("Gustavo", "Souza", "gsouza" + sequence + "@gmail.com", "São Paulo - Brasil", "Male");
+        person.setId(sequence);
+        return new PersonEvent(sequence, Type.CREATED, sequence, person);
+    }
+
+    private static void awaitSubscribers(PersonEventBroadcaster broadcaster, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.getSubscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    public void testGivenSubscriber_whenPersonEvent_thenSendSseFrame() throws Exception {
+        // Given
+        givenBroadcaster(16, 10);
+        RecordingEmitter subscriber = new RecordingEmitter(null, false);
+        broadcaster.subscribe(subscriber);
+
+        // When
+        broadcaster.onPersonEvent(created(7));
+
+        // Then
+        String frame = subscriber.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertTrue(frame.startsWith("id:7\nevent:created\ndata:{"), frame);
+        assertTrue(frame.contains("\"type\":\"CREATED\""), frame);
+        assertTrue(frame.contains("\"email\":\"gsouza7@gmail.com\""), frame);
+    }
+
+    @Test
+    public void testGivenSlowSubscriber_whenBufferOverflows_thenDisconnectOnlySlowSubscriber() throws Exception {
+        // Given
+        givenBroadcaster(2, 10);
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck, false);
+        RecordingEmitter fast = new RecordingEmitter(null, false);
+        broadcaster.subscribe(slow);
+        broadcaster.subscribe(fast);
+
+        // When / Then
+        // O lento segura no máximo um evento no envio e dois na fila: o quarto já não cabe.
+        // O rápido recebe cada evento antes do próximo, então a fila dele nunca enche
+        for (long sequence = 1; sequence <= 6; sequence++) {
+            broadcaster.onPersonEvent(created(sequence));
+            String frame = fast.frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame);
+            assertTrue(frame.startsWith("id:" + sequence + "\n"), frame);
+        }
+        assertEquals(1, broadcaster.getDisconnectedCount());
+        assertEquals(1, broadcaster.getSubscriberCount());
+        stuck.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testGivenSendStalledOnOnlyThread_whenSendTimeoutPasses_thenDisconnectItAndKeepServingOthers() throws Exception {
+        // Given
+        givenBroadcaster(16, 10, 1, Duration.ofMillis(100));
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck, false);
+        broadcaster.subscribe(slow);
+        broadcaster.onPersonEvent(created(1));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        RecordingEmitter fast = new RecordingEmitter(null, false);
+        broadcaster.subscribe(fast);
+
+        // When
+        broadcaster.onPersonEvent(created(2));
+
+        // Then
+        // A única thread continua presa no envio do lento: o quadro só chega pela thread extra
+        String frame = fast.frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        assertTrue(frame.startsWith("id:2\n"), frame);
+        assertEquals(1, broadcaster.getDisconnectedCount());
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(2, broadcaster.getDispatchThreads());
+        stuck.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.getDispatchThreads());
+    }
+
+    @Test
+    public void testGivenBrokenConnection_whenPersonEvent_thenRemoveSubscriber() throws Exception {
+        // Given
+        givenBroadcaster(16, 10);
+        broadcaster.subscribe(new RecordingEmitter(null, true));
+
+        // When
+        broadcaster.onPersonEvent(created(1));
+
+        // Then
+        awaitSubscribers(broadcaster, 0);
+        assertEquals(0, broadcaster.getDisconnectedCount());
+    }
+
+    @Test
+    public void testGivenMaxSubscribers_whenSubscribe_thenThrowServiceOverloaded() {
+        // Given
+        givenBroadcaster(16, 1);
+        broadcaster.subscribe(new RecordingEmitter(null, false));
+
+        // When / Then
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class, () -> broadcaster.subscribe());
+        assertEquals(5, exception.getRetryAfterSeconds());
+    }
+
+    // Guarda os quadros enviados; pode segurar o envio (cliente lento) ou falhar como uma conexão fechada
+    private static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch stuck;
+        private final boolean broken;
+
+        RecordingEmitter(CountDownLatch stuck, boolean broken) {
+            this.stuck = stuck;
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            sending.countDown();
+            if (stuck != null) {
+                try {
+                    stuck.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,10 @@
+CREATE SEQUENCE IF NOT EXISTS person_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS person (
+    id BIGINT NOT NULL PRIMARY KEY,
+    first_name VARCHAR(80) NOT NULL,
+    last_name VARCHAR(80) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    address VARCHAR(255) NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);